@@ -0,0 +1,81 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.dto.WeatherDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(DTO 배열 역직렬화 + MM-dd 문자열 선형 탐색)과
+ * 스트리밍 파싱 + 날짜 슬롯 배열 조회 방식을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherLookupBenchmark {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    // RestTemplate 이 사용하던 것과 같은 설정의 ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private byte[] feed;
+    private WeatherDto[] weatherArray;
+    private WeatherSnapshot snapshot;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() throws IOException {
+        StringBuilder json = new StringBuilder("[");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < WeatherSnapshot.SLOT_COUNT; i++, date = date.plusDays(1)) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"date\":\"").append(date.format(DateTimeFormatter.ofPattern("MM-dd")))
+                    .append("\",\"weather\":\"").append(WEATHERS[i % WEATHERS.length]).append("\"}");
+        }
+        feed = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        weatherArray = objectMapper.readValue(feed, WeatherDto[].class);
+        snapshot = new WeatherSnapshot(WeatherFeedParser.parse(feed), Instant.now());
+        // 선형 탐색의 최악에 가까운 경우를 보기 위해 연말 날짜를 조회합니다.
+        today = LocalDate.of(2024, 12, 20);
+    }
+
+    @Benchmark
+    public WeatherDto[] parseDtoArray() throws IOException {
+        return objectMapper.readValue(feed, WeatherDto[].class);
+    }
+
+    @Benchmark
+    public String[] parseStreaming() throws IOException {
+        return WeatherFeedParser.parse(feed);
+    }
+
+    @Benchmark
+    public String lookupArrayScan() {
+        String date = today.format(DateTimeFormatter.ofPattern("MM-dd"));
+        for (WeatherDto weatherDto : weatherArray) {
+            if (date.equals(weatherDto.getDate())) {
+                return weatherDto.getWeather();
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String lookupIndexed() {
+        return snapshot.findWeather(today);
+    }
+}
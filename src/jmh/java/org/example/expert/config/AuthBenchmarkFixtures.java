@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.service.SessionTokenStore;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 인증 경로 벤치마크에서 공통으로 사용하는 객체 생성 도우미
+ */
+final class AuthBenchmarkFixtures {
+
+    static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private AuthBenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static String bearerToken(JwtUtil jwtUtil) {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+
+    static JwtClaimsCache claimsCache(boolean enabled) {
+        return new JwtClaimsCache(enabled, 100_000, new SimpleMeterRegistry());
+    }
+
+    // isRevoked 경로는 저장소와 lease 를 사용하지 않으므로 비워 둡니다.
+    static TokenRevocationService revocationService() {
+        return new TokenRevocationService(null, null, 10_000, new SimpleMeterRegistry());
+    }
+
+    // DB fallback 을 끈 세션 저장소는 저장소와 lease 를 사용하지 않습니다.
+    static SessionTokenStore sessionTokenStore(boolean enabled) {
+        return new SessionTokenStore(null, null, enabled ? SessionTokenStore.MODE_SESSION : SessionTokenStore.MODE_JWT,
+                false, JwtUtil.TOKEN_TIME, 200_000, SECRET_KEY, new SimpleMeterRegistry());
+    }
+
+    static AuthFailureRecorder authFailureRecorder() {
+        return new AuthFailureRecorder(100, 5, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.example.expert.domain.auth.service.SessionTokenStore;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 세션 10만 개 기준으로 인증 방식별 요청 한 건의 JwtFilter 비용과 메모리 사용량을 비교합니다.
+ * jwt: 매 요청 HMAC 검증, jwt-cached: 검증된 claims 캐시 사용, session: 불투명 토큰을 세션 저장소에서 조회
+ * 메모리 사용량은 setup 에서 JOL 로 잰 저장소 크기를 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx2g", "-Djdk.attach.allowAttachSelf=true"})
+public class AuthModeBenchmark {
+
+    private static final int ACTIVE_SESSIONS = 100_000;
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"jwt", "jwt-cached", "session"})
+    public String mode;
+
+    private JwtFilter jwtFilter;
+    private String[] bearerTokens;
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+    }
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = AuthBenchmarkFixtures.jwtUtil();
+        JwtClaimsCache claimsCache = AuthBenchmarkFixtures.claimsCache("jwt-cached".equals(mode));
+        SessionTokenStore sessionTokenStore = AuthBenchmarkFixtures.sessionTokenStore("session".equals(mode));
+        TokenVerifier tokenVerifier = new TokenVerifier(jwtUtil, claimsCache, sessionTokenStore,
+                AuthBenchmarkFixtures.revocationService());
+        jwtFilter = new JwtFilter(jwtUtil, tokenVerifier, AuthBenchmarkFixtures.authFailureRecorder());
+
+        bearerTokens = new String[ACTIVE_SESSIONS];
+        for (int i = 0; i < ACTIVE_SESSIONS; i++) {
+            long userId = i + 1;
+            String email = "user" + userId + "@example.com";
+            bearerTokens[i] = sessionTokenStore.isEnabled()
+                    ? "Bearer " + sessionTokenStore.create(userId, email, UserRole.USER)
+                    : jwtUtil.createToken(userId, email, UserRole.USER);
+        }
+
+        // 캐시 모드는 모든 토큰을 한 번씩 검증해 캐시를 채워 둡니다.
+        RequestState warmUp = new RequestState();
+        for (String bearerToken : bearerTokens) {
+            doFilter(warmUp, bearerToken);
+        }
+
+        Object store = switch (mode) {
+            case "jwt-cached" -> ReflectionTestUtils.getField(claimsCache, "entries");
+            case "session" -> ReflectionTestUtils.getField(sessionTokenStore, "sessions");
+            default -> null;
+        };
+        long retainedBytes = store == null ? 0 : GraphLayout.parseInstance(store).totalSize();
+        System.out.printf("%n[%s] retained auth state: %,d bytes (%,d bytes/session)%n",
+                mode, retainedBytes, retainedBytes / ACTIVE_SESSIONS);
+    }
+
+    @Benchmark
+    public Object authenticate(RequestState state) throws Exception {
+        String bearerToken = bearerTokens[ThreadLocalRandom.current().nextInt(ACTIVE_SESSIONS)];
+        return doFilter(state, bearerToken);
+    }
+
+    private Object doFilter(RequestState state, String bearerToken) {
+        state.request.removeHeader("Authorization");
+        state.request.addHeader("Authorization", bearerToken);
+        try {
+            jwtFilter.doFilter(state.request, state.response, NO_OP_CHAIN);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return state.request.getAttribute("userId");
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 넣어 둔 요청 속성으로 AuthUser 를 만드는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private AuthUserArgumentResolver resolver;
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        resolver = new AuthUserArgumentResolver();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "user@example.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+
+    @Benchmark
+    public UserRole userRoleOf() {
+        return UserRole.of("USER");
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이 장비에서 bcrypt cost 별 해시/검증 시간을 측정합니다.
+ * auth.password.cost 와 calibration 목표 시간을 정할 때 참고합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BcryptCostBenchmark {
+
+    private static final char[] PASSWORD = "Benchmark1234".toCharArray();
+
+    @Param({"4", "6", "8", "10", "12"})
+    public int cost;
+
+    private byte[] encodedPassword;
+
+    @Setup
+    public void setUp() {
+        encodedPassword = BCrypt.withDefaults().hash(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public byte[] hash() {
+        return BCrypt.withDefaults().hash(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return BCrypt.verifyer().verify(PASSWORD, encodedPassword).verified;
+    }
+}
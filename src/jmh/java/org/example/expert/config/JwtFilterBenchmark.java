@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 요청 하나가 JwtFilter 를 통과하는 비용을 측정합니다.
+ * cacheEnabled=false 가 검증된 claims 캐시가 없을 때의 기준값입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtFilter jwtFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = AuthBenchmarkFixtures.jwtUtil();
+        TokenVerifier tokenVerifier = new TokenVerifier(jwtUtil, AuthBenchmarkFixtures.claimsCache(cacheEnabled),
+                AuthBenchmarkFixtures.sessionTokenStore(false), AuthBenchmarkFixtures.revocationService());
+        jwtFilter = new JwtFilter(jwtUtil, tokenVerifier, AuthBenchmarkFixtures.authFailureRecorder());
+
+        request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", AuthBenchmarkFixtures.bearerToken(jwtUtil));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object doFilter() throws Exception {
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        return request.getAttribute("userId");
+    }
+}
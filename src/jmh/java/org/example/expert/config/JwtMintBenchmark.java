@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 토큰 발급량을 기존 Jwts.builder() 방식과 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class JwtMintBenchmark {
+
+    private JwtUtil jwtUtil;
+    private Key key;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = AuthBenchmarkFixtures.jwtUtil();
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(AuthBenchmarkFixtures.SECRET_KEY));
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        Date date = new Date();
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "user@example.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(date.getTime() + 60 * 60 * 1000L))
+                .setIssuedAt(date)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 가 요청마다 수행하는 토큰 처리 단계를 나누어 측정합니다.
+ * format 으로 기존 claim 형식과 compact 형식(이메일 포함/생략)을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"legacy", "compact", "compact-no-email"})
+    public String format;
+
+    private JwtUtil jwtUtil;
+    private String bearerToken;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = AuthBenchmarkFixtures.jwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "compactEnabled", !"legacy".equals(format));
+        ReflectionTestUtils.setField(jwtUtil, "compactIncludeEmail", "compact".equals(format));
+        bearerToken = AuthBenchmarkFixtures.bearerToken(jwtUtil);
+        token = jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public String substringToken() {
+        return jwtUtil.substringToken(bearerToken);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtUtil.extractClaims(token);
+    }
+
+    @Benchmark
+    public UserRole extractClaimsAndRole() {
+        return VerifiedToken.from(jwtUtil.extractClaims(token)).getUserRole();
+    }
+}
@@ -1,35 +1,62 @@
 package org.example.expert.aop;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
-
-import java.time.LocalDateTime;
-
-@Slf4j
+import org.example.expert.config.ExceptionStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 관리자 API 접근 기록
+ * 요청 스레드에서는 값만 링 버퍼에 넣고, 포맷팅과 파일 쓰기는 {@link AccessLogWriter} 의 백그라운드 스레드가 합니다.
+ */
 @Aspect
 public class AccessLogAspect {
-    private final HttpServletRequest servletRequest;
 
-    public AccessLogAspect(HttpServletRequest servletRequest) {
-        this.servletRequest = servletRequest;
+    private final AccessLogWriter accessLogWriter;
+
+    public AccessLogAspect(AccessLogWriter accessLogWriter) {
+        this.accessLogWriter = accessLogWriter;
     }
 
-    @Pointcut("execution(* org.example.expert.domain.comment.controller.*(..))")
+    @Pointcut("execution(* org.example.expert.domain.comment.controller.CommentAdminController.*(..))")
     private void commentAdmin(){}
 
-    @Pointcut("execution(* org.example.expert.domain.user.controller.*(..))")
+    @Pointcut("execution(* org.example.expert.domain.user.controller.UserAdminController.*(..))")
     private void userAdmin(){}
 
-    @Before("commentAdmin() || userAdmin()")
-    public void recordAccessLog() throws Throwable {
-        Long userId = (Long) servletRequest.getAttribute("userId"); // 요청한 사용자의 ID
-        LocalDateTime accessTime = LocalDateTime.now();   // API 요청 시각
-        String url = servletRequest.getRequestURI();    // API 요청 URL
-
-        log.info("\n::: User ID : {} :::\n::: Access Time : {}:::\n::: URL : {} :::", userId, accessTime, url);
+    @Around("commentAdmin() || userAdmin()")
+    public Object recordAccessLog(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        int status = 200;
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> responseEntity) {
+                status = responseEntity.getStatusCode().value();
+            }
+            return result;
+        } catch (Throwable e) {
+            // GlobalExceptionHandler 와 같은 규칙으로 응답 상태 코드를 정합니다.
+            status = ExceptionStatus.of(e).value();
+            throw e;
+        } finally {
+            record(status, (System.nanoTime() - startedAt) / 1000);
+        }
     }
 
+    private void record(int status, long durationMicros) {
+        // request scope 프록시 대신 현재 스레드에 묶인 요청을 바로 꺼냅니다.
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        accessLogWriter.append((Long) request.getAttribute("userId"), System.currentTimeMillis(),
+                request.getRequestURI(), status, durationMicros);
+    }
 }
@@ -0,0 +1,110 @@
+package org.example.expert.aop;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 접근 로그 이벤트를 담는 고정 크기 링 버퍼 (생산자 여러 개, 소비자 하나)
+ *
+ * <p>필드별 배열을 미리 할당해 두고 슬롯에 값만 채우므로 요청 스레드에서 객체 생성, 포맷팅, 락이 없습니다.
+ * 버퍼가 가득 차면 기다리지 않고 이벤트를 버리고 drop 카운터만 올립니다.</p>
+ */
+public class AccessLogBuffer {
+
+    public static final long NO_USER = -1L;
+
+    @FunctionalInterface
+    public interface EventConsumer {
+        void accept(long userId, long epochMillis, String uri, int status, long durationMicros);
+    }
+
+    private final int capacity;
+    private final int mask;
+
+    private final long[] userIds;
+    private final long[] epochMillis;
+    private final String[] uris;
+    private final int[] statuses;
+    private final long[] durationMicros;
+    // 슬롯에 기록을 마친 sequence. 소비자는 이 값이 기대한 sequence 와 같을 때만 읽습니다.
+    private final AtomicLongArray published;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+
+    public AccessLogBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) * 2 - 1);
+        this.mask = capacity - 1;
+        this.userIds = new long[capacity];
+        this.epochMillis = new long[capacity];
+        this.uris = new String[capacity];
+        this.statuses = new int[capacity];
+        this.durationMicros = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+    }
+
+    public boolean offer(long userId, long eventEpochMillis, String uri, int status, long eventDurationMicros) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                droppedCount.increment();
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        userIds[slot] = userId;
+        epochMillis[slot] = eventEpochMillis;
+        uris[slot] = uri;
+        statuses[slot] = status;
+        durationMicros[slot] = eventDurationMicros;
+        published.set(slot, sequence);
+        acceptedCount.increment();
+        return true;
+    }
+
+    /**
+     * 기록이 끝난 이벤트를 순서대로 최대 maxEvents 개까지 꺼내 consumer 에 넘기고, 꺼낸 개수를 반환합니다.
+     * 소비자 스레드 하나에서만 호출해야 합니다.
+     */
+    public int drain(EventConsumer consumer, int maxEvents) {
+        long sequence = consumed;
+        int drained = 0;
+        while (drained < maxEvents) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence) {
+                break;
+            }
+            consumer.accept(userIds[slot], epochMillis[slot], uris[slot], statuses[slot], durationMicros[slot]);
+            uris[slot] = null;
+            sequence++;
+            drained++;
+        }
+        consumed = sequence;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, claimed.get() - consumed);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+}
@@ -0,0 +1,292 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.audit.store.AuditStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 접근 로그 링 버퍼를 백그라운드 스레드 하나가 모아서 JSON lines 파일로 씁니다.
+ *
+ * <p>파일은 UTC 날짜별로 나뉘고(access-2024-01-01.jsonl), 한 파일이 max-file-bytes 를 넘으면
+ * 번호를 붙인 새 파일(access-2024-01-01.1.jsonl)로 넘어갑니다. 요청 스레드는 버퍼에 값만 넣고 바로 돌아갑니다.
+ * 같은 이벤트를 조회용 {@link AuditStore} 에도 기록하는데, 파일과 AuditStore 는 버퍼와 스레드를 따로 두어
+ * 한쪽이 실패하거나 느려져도 다른 쪽은 계속 기록합니다.</p>
+ *
+ * <p>이벤트 하나를 기록하다 예외가 나면 오류 카운터(access.log.write.errors)를 올리고 로그를 남긴 뒤
+ * 다음 이벤트로 넘어가므로, 기록 스레드는 종료될 때까지 멈추지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+
+    private final AccessLogBuffer buffer;
+    private final AccessLogBuffer auditBuffer;
+    private final AuditStore auditStore;
+    private final Path directory;
+    private final String filePrefix;
+    private final long maxFileBytes;
+    private final int batchSize;
+    private final long idleParkNanos;
+
+    private final Counter writeErrorCounter;
+    private final Counter auditErrorCounter;
+    private final StringBuilder line = new StringBuilder(160);
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private Thread auditThread;
+
+    private BufferedWriter writer;
+    private LocalDate currentDate;
+    private int currentIndex;
+    private long currentBytes;
+
+    public AccessLogWriter(
+            @Value("${access-log.buffer-size:16384}") int bufferSize,
+            @Value("${access-log.dir:logs}") String directory,
+            @Value("${access-log.file-prefix:access}") String filePrefix,
+            @Value("${access-log.max-file-bytes:104857600}") long maxFileBytes,
+            @Value("${access-log.batch-size:512}") int batchSize,
+            @Value("${access-log.idle-wait-ms:100}") long idleWaitMillis,
+            AuditStore auditStore,
+            MeterRegistry meterRegistry
+    ) {
+        this.buffer = new AccessLogBuffer(bufferSize);
+        this.auditBuffer = new AccessLogBuffer(bufferSize);
+        this.auditStore = auditStore;
+        this.directory = Paths.get(directory);
+        this.filePrefix = filePrefix;
+        this.maxFileBytes = maxFileBytes;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleWaitMillis);
+
+        registerBufferMeters(meterRegistry, "file", buffer);
+        registerBufferMeters(meterRegistry, "audit", auditBuffer);
+        this.writeErrorCounter = Counter.builder("access.log.write.errors")
+                .tag("sink", "file")
+                .register(meterRegistry);
+        this.auditErrorCounter = Counter.builder("access.log.write.errors")
+                .tag("sink", "audit")
+                .register(meterRegistry);
+    }
+
+    private static void registerBufferMeters(MeterRegistry meterRegistry, String sink, AccessLogBuffer buffer) {
+        FunctionCounter.builder("access.log.events", buffer, AccessLogBuffer::getAcceptedCount)
+                .tag("sink", sink)
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        FunctionCounter.builder("access.log.events", buffer, AccessLogBuffer::getDroppedCount)
+                .description("버퍼가 가득 차 버려진 접근 로그 수")
+                .tag("sink", sink)
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        Gauge.builder("access.log.buffer.size", buffer, AccessLogBuffer::size)
+                .tag("sink", sink)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 스레드에서 호출합니다. 파일 버퍼가 가득 차면 false 를 반환하고 이벤트는 버려집니다.
+     */
+    public boolean append(Long userId, long epochMillis, String uri, int status, long durationMicros) {
+        long id = userId == null ? AccessLogBuffer.NO_USER : userId;
+        auditBuffer.offer(id, epochMillis, uri, status, durationMicros);
+        return buffer.offer(id, epochMillis, uri, status, durationMicros);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = startThread("access-log-writer", this::drainOnce, this::closeQuietly);
+        auditThread = startThread("access-log-audit", this::drainAuditOnce, () -> { });
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        LockSupport.unpark(auditThread);
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        auditThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    public AccessLogBuffer getBuffer() {
+        return buffer;
+    }
+
+    private Thread startThread(String name, IntSupplier drain, Runnable onExit) {
+        Thread thread = new Thread(() -> runLoop(drain, onExit), name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void runLoop(IntSupplier drain, Runnable onExit) {
+        try {
+            while (running) {
+                if (drain.getAsInt() == 0) {
+                    LockSupport.parkNanos(idleParkNanos);
+                }
+            }
+            // 종료 시 남은 이벤트를 모두 씁니다.
+            while (drain.getAsInt() > 0) {
+                // 계속 비움
+            }
+        } finally {
+            onExit.run();
+        }
+    }
+
+    /**
+     * 버퍼에서 한 묶음을 꺼내 파일에 쓰고 flush 합니다. 꺼낸 이벤트 수를 반환합니다.
+     */
+    int drainOnce() {
+        int drained = buffer.drain(this::writeEvent, batchSize);
+        if (drained > 0 && writer != null) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                onWriteError(e);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 감사 버퍼에서 한 묶음을 꺼내 AuditStore 에 기록합니다. 꺼낸 이벤트 수를 반환합니다.
+     */
+    int drainAuditOnce() {
+        return auditBuffer.drain(this::appendAudit, batchSize);
+    }
+
+    private void appendAudit(long userId, long epochMillis, String uri, int status, long durationMicros) {
+        try {
+            auditStore.append(userId == AccessLogBuffer.NO_USER ? null : userId, epochMillis, uri, status, durationMicros);
+        } catch (RuntimeException e) {
+            auditErrorCounter.increment();
+            log.warn("접근 로그를 감사 저장소에 기록하지 못했습니다. uri={}, cause={}", uri, e.toString());
+        }
+    }
+
+    private void writeEvent(long userId, long epochMillis, String uri, int status, long durationMicros) {
+        try {
+            writeLine(userId, epochMillis, uri, status, durationMicros);
+        } catch (IOException | RuntimeException e) {
+            onWriteError(e);
+        }
+    }
+
+    private void writeLine(long userId, long epochMillis, String uri, int status, long durationMicros)
+            throws IOException {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(epochMillis)).append('"')
+                .append(",\"userId\":");
+        if (userId == AccessLogBuffer.NO_USER) {
+            line.append("null");
+        } else {
+            line.append(userId);
+        }
+        line.append(",\"uri\":");
+        appendJsonString(uri);
+        line.append(",\"status\":").append(status)
+                .append(",\"durationUs\":").append(durationMicros)
+                .append("}\n");
+
+        BufferedWriter out = writerFor(LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+        out.append(line);
+        currentBytes += line.length();
+    }
+
+    private BufferedWriter writerFor(LocalDate date) throws IOException {
+        if (writer != null && date.equals(currentDate) && currentBytes < maxFileBytes) {
+            return writer;
+        }
+        if (writer != null && date.equals(currentDate)) {
+            currentIndex++;
+        } else {
+            currentDate = date;
+            currentIndex = 0;
+        }
+        closeQuietly();
+
+        Files.createDirectories(directory);
+        Path file = nextFile();
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        currentBytes = Files.size(file);
+        return writer;
+    }
+
+    // 재시작한 경우 같은 날짜의 가득 찬 파일은 건너뜁니다.
+    private Path nextFile() throws IOException {
+        while (true) {
+            String suffix = currentIndex == 0 ? "" : "." + currentIndex;
+            Path file = directory.resolve(filePrefix + "-" + currentDate + suffix + ".jsonl");
+            if (!Files.exists(file) || Files.size(file) < maxFileBytes) {
+                return file;
+            }
+            currentIndex++;
+        }
+    }
+
+    private void appendJsonString(String value) {
+        if (value == null) {
+            line.append("null");
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c < 0x20) {
+                line.append(String.format("\\u%04x", (int) c));
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    private void onWriteError(Exception e) {
+        writeErrorCounter.increment();
+        log.warn("접근 로그를 파일에 쓰지 못했습니다. cause={}", e.toString());
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ignored) {
+            // 닫기 실패는 무시하고 다음 쓰기에서 새 파일을 엽니다.
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * 모든 REST 컨트롤러 핸들러의 실행 시간을 핸들러별 히스토그램에 기록합니다.
+ */
+@Aspect
+public class EndpointLatencyAspect {
+
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+
+    public EndpointLatencyAspect(EndpointLatencyRecorder endpointLatencyRecorder) {
+        this.endpointLatencyRecorder = endpointLatencyRecorder;
+    }
+
+    @Pointcut("execution(* org.example.expert.domain.*.controller.*.*(..)) "
+            + "&& @within(org.springframework.web.bind.annotation.RestController)")
+    private void restController(){}
+
+    @Around("restController()")
+    public Object recordLatency(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startedAt = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            endpointLatencyRecorder.record(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                    (System.nanoTime() - startedAt) / 1000);
+        }
+    }
+}
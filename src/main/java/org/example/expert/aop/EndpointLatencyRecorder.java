@@ -0,0 +1,39 @@
+package org.example.expert.aop;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러 핸들러별 지연 시간 히스토그램 저장소
+ * 핸들러 이름 문자열은 처음 한 번만 만들고, 이후에는 Method 로 히스토그램을 찾습니다.
+ */
+@Component
+public class EndpointLatencyRecorder {
+
+    private final Map<Method, NamedHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(Method handler, long micros) {
+        NamedHistogram histogram = histograms.get(handler);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(handler, method -> new NamedHistogram(
+                    method.getDeclaringClass().getSimpleName() + "." + method.getName(), new LatencyHistogram()));
+        }
+        histogram.histogram.record(micros);
+    }
+
+    /**
+     * 핸들러 이름 순으로 정렬한 히스토그램 목록
+     */
+    public Map<String, LatencyHistogram> snapshot() {
+        Map<String, LatencyHistogram> snapshot = new TreeMap<>();
+        histograms.values().forEach(named -> snapshot.merge(named.name, named.histogram, (a, b) -> a));
+        return snapshot;
+    }
+
+    private record NamedHistogram(String name, LatencyHistogram histogram) {
+    }
+}
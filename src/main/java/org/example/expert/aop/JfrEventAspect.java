@@ -0,0 +1,87 @@
+package org.example.expert.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.example.expert.jfr.RepositoryCallEvent;
+import org.example.expert.jfr.ServiceMethodEvent;
+
+/**
+ * 서비스 메서드와 리포지토리 호출을 JFR 이벤트로 남깁니다.
+ * 녹화 중이 아니거나 해당 이벤트가 꺼져 있으면 이벤트 객체를 만들지 않고 바로 proceed 합니다.
+ */
+@Aspect
+public class JfrEventAspect {
+
+    private static final String BASE_PACKAGE = "org.example.expert.";
+
+    // 리포지토리 프록시 클래스 -> 우리 리포지토리 인터페이스 이름 (save 처럼 상위 인터페이스 메서드도 UserRepository 로 보이도록)
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> type : proxyClass.getInterfaces()) {
+                if (type.getName().startsWith(BASE_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    @Pointcut("execution(public * org.example.expert.domain.todo.service.TodoService.*(..)) "
+            + "|| execution(public * org.example.expert.domain.comment.service.CommentService.*(..)) "
+            + "|| execution(public * org.example.expert.domain.manager.service.ManagerService.*(..)) "
+            + "|| execution(public * org.example.expert.domain.auth.service.AuthService.*(..)) "
+            + "|| execution(public * org.example.expert.domain.user.service.UserService.*(..))")
+    private void domainService(){}
+
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    private void repository(){}
+
+    @Around("domainService()")
+    public Object recordServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!ServiceMethodEvent.TYPE.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        ServiceMethodEvent event = new ServiceMethodEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+
+    @Around("repository()")
+    public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RepositoryCallEvent.TYPE.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            event.failed = true;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = REPOSITORY_NAMES.get(joinPoint.getThis().getClass());
+                event.method = joinPoint.getSignature().getName();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.ToIntFunction;
+
+/**
+ * HTTP 날씨 API 원천
+ * 커넥션 풀로 연결을 재사용하고, ETag/Last-Modified 조건부 요청으로 피드가 바뀌지 않았으면
+ * 304 응답을 받아 이전에 파싱한 결과를 그대로 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "weather.source", havingValue = "http", matchIfMissing = true)
+public class HttpWeatherSource implements WeatherSource {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final RestTemplate restTemplate;
+    private final URI weatherApiUri;
+
+    private final Counter fullResponseCounter;
+    private final Counter notModifiedCounter;
+
+    // 마지막으로 200 응답을 받은 피드와 검증자(ETag, Last-Modified)
+    private volatile CachedFeed cachedFeed;
+
+    public HttpWeatherSource(
+            RestTemplateBuilder builder,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.connect-timeout-ms:1000}") long connectTimeoutMillis,
+            @Value("${weather.read-timeout-ms:2000}") long readTimeoutMillis,
+            @Value("${weather.http.max-connections:4}") int maxConnections,
+            MeterRegistry meterRegistry
+    ) {
+        this.connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMinutes(1))
+                .build();
+        this.restTemplate = builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+
+        this.fullResponseCounter = Counter.builder("weather.http.responses")
+                .tag("status", "200")
+                .register(meterRegistry);
+        this.notModifiedCounter = Counter.builder("weather.http.responses")
+                .tag("status", "304")
+                .register(meterRegistry);
+        Gauge.builder("weather.http.not-modified.ratio", this, HttpWeatherSource::notModifiedRatio)
+                .description("조건부 요청 중 304 로 응답받은 비율")
+                .register(meterRegistry);
+        registerPoolGauge(meterRegistry, "leased", PoolStats::getLeased);
+        registerPoolGauge(meterRegistry, "available", PoolStats::getAvailable);
+        registerPoolGauge(meterRegistry, "pending", PoolStats::getPending);
+        registerPoolGauge(meterRegistry, "max", PoolStats::getMax);
+    }
+
+    @Override
+    public String[] load() {
+        CachedFeed previous = cachedFeed;
+
+        return restTemplate.execute(weatherApiUri, HttpMethod.GET,
+                request -> {
+                    if (previous == null) {
+                        return;
+                    }
+                    if (previous.eTag != null) {
+                        request.getHeaders().setIfNoneMatch(previous.eTag);
+                    }
+                    if (previous.lastModified != null) {
+                        request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified);
+                    }
+                },
+                response -> {
+                    if (HttpStatus.NOT_MODIFIED.equals(response.getStatusCode()) && previous != null) {
+                        notModifiedCounter.increment();
+                        return previous.weatherBySlot;
+                    }
+                    if (!HttpStatus.OK.equals(response.getStatusCode())) {
+                        throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.getStatusCode());
+                    }
+
+                    // 응답 본문을 DTO 배열로 역직렬화하지 않고 스트리밍으로 바로 날짜 슬롯 배열로 변환합니다.
+                    String[] weatherBySlot = WeatherFeedParser.parse(response.getBody());
+                    fullResponseCounter.increment();
+                    cachedFeed = new CachedFeed(
+                            response.getHeaders().getETag(),
+                            response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED),
+                            weatherBySlot
+                    );
+                    return weatherBySlot;
+                });
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    private double notModifiedRatio() {
+        double total = fullResponseCounter.count() + notModifiedCounter.count();
+        return total == 0 ? 0 : notModifiedCounter.count() / total;
+    }
+
+    private void registerPoolGauge(MeterRegistry meterRegistry, String state, ToIntFunction<PoolStats> stat) {
+        Gauge.builder("weather.http.pool.connections", connectionManager, cm -> stat.applyAsInt(cm.getTotalStats()))
+                .tag("state", state)
+                .register(meterRegistry);
+    }
+
+    private URI buildWeatherApiUri(String baseUrl) {
+        return UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    private static final class CachedFeed {
+
+        private final String eTag;
+        private final String lastModified;
+        private final String[] weatherBySlot;
+
+        private CachedFeed(String eTag, String lastModified, String[] weatherBySlot) {
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.weatherBySlot = weatherBySlot;
+        }
+    }
+}
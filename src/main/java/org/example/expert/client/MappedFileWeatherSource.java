@@ -0,0 +1,87 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * 외부 네트워크가 없는 환경을 위한 로컬 날씨 파일 원천
+ * 파일을 읽기 전용으로 메모리 매핑해 파싱하고, 파일이 바뀌지 않았으면 이전 결과를 그대로 반환합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "weather.source", havingValue = "file")
+public class MappedFileWeatherSource implements WeatherSource {
+
+    private final Path path;
+
+    private FileTime loadedModifiedTime;
+    private long loadedSize = -1;
+    private String[] loadedWeather;
+
+    public MappedFileWeatherSource(@Value("${weather.file.path}") Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized String[] load() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (loadedWeather != null
+                    && attributes.size() == loadedSize
+                    && attributes.lastModifiedTime().equals(loadedModifiedTime)) {
+                return loadedWeather;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                loadedWeather = WeatherFeedParser.parse(new ByteBufferInputStream(buffer));
+            }
+            loadedSize = attributes.size();
+            loadedModifiedTime = attributes.lastModifiedTime();
+            return loadedWeather;
+        } catch (IOException e) {
+            throw new ServerException("로컬 날씨 파일을 읽을 수 없습니다. path=" + path);
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 날씨 API 호출을 감싸는 서킷 브레이커와 동시 호출 제한(bulkhead)
+ * 외부 API 가 느려지거나 실패해도 호출 스레드가 묶이지 않도록 빠르게 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class WeatherCallGuard {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long bulkheadWaitMillis;
+    private final Semaphore bulkhead;
+
+    private final Counter openedCounter;
+    private final Counter halfOpenCounter;
+    private final Counter openRejectedCounter;
+    private final Counter bulkheadRejectedCounter;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    public WeatherCallGuard(
+            @Value("${weather.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${weather.bulkhead.max-concurrent-calls:4}") int maxConcurrentCalls,
+            @Value("${weather.bulkhead.max-wait-ms:0}") long bulkheadWaitMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = Duration.ofMillis(openDurationMillis).toNanos();
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+
+        this.openedCounter = Counter.builder("weather.circuit.transitions")
+                .tag("state", "open")
+                .register(meterRegistry);
+        this.halfOpenCounter = Counter.builder("weather.circuit.transitions")
+                .tag("state", "half_open")
+                .register(meterRegistry);
+        this.openRejectedCounter = Counter.builder("weather.calls.rejected")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.bulkheadRejectedCounter = Counter.builder("weather.calls.rejected")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        if (!tryAcquirePermission()) {
+            openRejectedCounter.increment();
+            throw new ServerException("날씨 API 서킷이 열려 있어 호출하지 않았습니다.");
+        }
+
+        if (!tryEnterBulkhead()) {
+            releaseTrial();
+            bulkheadRejectedCounter.increment();
+            throw new ServerException("날씨 API 동시 호출 한도를 초과했습니다.");
+        }
+
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenCounter.increment();
+        }
+        // HALF_OPEN 상태에서는 시험 호출 하나만 허용합니다.
+        if (trialInFlight) {
+            return false;
+        }
+        trialInFlight = true;
+        return true;
+    }
+
+    private boolean tryEnterBulkhead() {
+        if (bulkheadWaitMillis <= 0) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(bulkheadWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    private synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("날씨 API 서킷을 엽니다. consecutiveFailures={}", consecutiveFailures);
+                openedCounter.increment();
+            }
+            state = State.OPEN;
+            openedAtNanos = System.nanoTime();
+        }
+    }
+}
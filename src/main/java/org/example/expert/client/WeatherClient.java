@@ -1,61 +1,167 @@
 package org.example.expert.client;
 
-import org.example.expert.client.dto.WeatherDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.example.expert.jfr.WeatherFetchEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.client.RestClientException;
 
-import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final WeatherSource weatherSource;
+    private final WeatherCallGuard callGuard;
+    private final String fallbackWeather;
+    private final Timer refreshTimer;
+    private final SingleFlight<WeatherSnapshot> refreshFlight = new SingleFlight<>();
+
+    // 요청 스레드는 이 스냅샷만 조회하고, 원격 호출은 스케줄러가 담당합니다.
+    private volatile WeatherSnapshot snapshot;
+
+    public WeatherClient(
+            WeatherSource weatherSource,
+            WeatherCallGuard callGuard,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather,
+            MeterRegistry meterRegistry
+    ) {
+        this.weatherSource = weatherSource;
+        this.callGuard = callGuard;
+        this.fallbackWeather = fallbackWeather;
+        this.refreshTimer = Timer.builder("weather.refresh.duration")
+                .description("날씨 피드 갱신 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("weather.refresh.last", this, WeatherClient::lastRefreshEpochSeconds)
+                .description("마지막 날씨 피드 갱신 시각 (epoch seconds)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("weather.snapshot.staleness", this, WeatherClient::stalenessSeconds)
+                .description("현재 날씨 스냅샷이 갱신된 후 경과한 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        FunctionCounter.builder("weather.fetch.calls", refreshFlight, SingleFlight::getExecutedCount)
+                .description("실제로 날씨 원천을 호출한 횟수")
+                .tag("result", "executed")
+                .register(meterRegistry);
+        FunctionCounter.builder("weather.fetch.calls", refreshFlight, SingleFlight::getCoalescedCount)
+                .description("진행 중인 호출에 합류해 원천을 호출하지 않은 횟수")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
     }
 
+    /**
+     * 요청 경로에서 사용하는 조회로, 날씨 API 가 실패하거나 서킷이 열려 있으면 기본값을 반환합니다.
+     */
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        if (!WeatherFetchEvent.TYPE.isEnabled()) {
+            return fetchTodayWeather(null);
+        }
+        WeatherFetchEvent event = new WeatherFetchEvent();
+        event.begin();
+        try {
+            return fetchTodayWeather(event);
+        } finally {
+            event.end();
+            event.commit();
+        }
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    private String fetchTodayWeather(WeatherFetchEvent event) {
+        try {
+            return getWeather(LocalDate.now());
+        } catch (ServerException | RestClientException e) {
+            log.warn("오늘 날씨를 가져오지 못해 기본값을 사용합니다. cause={}", e.getMessage());
+            if (event != null) {
+                event.fallbackUsed = true;
+            }
+            return fallbackWeather;
         }
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    }
+
+    public String getWeather(LocalDate date) {
+        String weather = currentSnapshot().findWeather(date);
+        if (weather == null) {
+            throw new ServerException(date.format(DATE_FORMATTER) + "에 해당하는 날씨 데이터를 찾을 수 없습니다.");
         }
+        return weather;
+    }
 
-        String today = getCurrentDate();
+    /**
+     * 피드에 해당 날짜가 없으면 요청 경로와 같은 기본값을 반환합니다.
+     * 피드 자체를 가져올 수 없는 경우(서킷 열림, 전송 오류)에만 예외가 전파됩니다.
+     */
+    public String getWeatherOrFallback(LocalDate date) {
+        String weather = currentSnapshot().findWeather(date);
+        return weather != null ? weather : fallbackWeather;
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+    private WeatherSnapshot currentSnapshot() {
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            // 아직 한 번도 갱신되지 않은 경우에만 요청 스레드에서 직접 가져옵니다.
+            current = refresh();
         }
+        return current;
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    /**
+     * 주기적으로 날씨 피드를 갱신합니다. 실패하면 기존 스냅샷을 그대로 사용합니다.
+     */
+    @Scheduled(initialDelayString = "${weather.refresh.initial-delay-ms:0}",
+            fixedDelayString = "${weather.refresh.interval-ms:600000}")
+    public void scheduledRefresh() {
+        refreshQuietly();
+    }
+
+    /**
+     * 날짜가 바뀌는 시점에 날씨 피드를 갱신합니다.
+     */
+    @Scheduled(cron = "${weather.refresh.rollover-cron:0 0 0 * * *}")
+    public void rolloverRefresh() {
+        refreshQuietly();
+    }
+
+    /**
+     * 날씨 원천에서 피드를 다시 읽어 스냅샷을 교체합니다.
+     * 동시에 여러 스레드가 호출해도 원천 호출은 한 번만 일어나고 결과와 예외를 함께 받습니다.
+     */
+    public WeatherSnapshot refresh() {
+        return refreshFlight.execute(() -> {
+            WeatherSnapshot refreshed = refreshTimer.record(
+                    () -> new WeatherSnapshot(callGuard.execute(weatherSource::load), Instant.now()));
+            snapshot = refreshed;
+            return refreshed;
+        });
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("날씨 피드 갱신에 실패했습니다. 기존 스냅샷을 유지합니다. cause={}", e.getMessage());
+        }
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private double lastRefreshEpochSeconds() {
+        WeatherSnapshot current = snapshot;
+        return current == null ? Double.NaN : current.getRefreshedAt().getEpochSecond();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private double stalenessSeconds() {
+        WeatherSnapshot current = snapshot;
+        return current == null ? Double.NaN : Duration.between(current.getRefreshedAt(), Instant.now()).toMillis() / 1000.0;
     }
 }
@@ -0,0 +1,99 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 날씨 피드([{"date":"MM-dd","weather":"..."}, ...])를 스트리밍으로 읽어 날짜 슬롯 배열로 만듭니다.
+ * DTO 배열을 거치지 않고, 같은 날씨 문자열은 하나의 인스턴스를 공유합니다.
+ */
+public final class WeatherFeedParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private WeatherFeedParser() {
+    }
+
+    public static String[] parse(InputStream inputStream) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+            return parse(parser);
+        }
+    }
+
+    public static String[] parse(byte[] content) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+            return parse(parser);
+        }
+    }
+
+    private static String[] parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+
+        String[] weatherBySlot = new String[WeatherSnapshot.SLOT_COUNT];
+        Map<String, String> canonicalWeather = new HashMap<>();
+        int entries = 0;
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            int slot = -1;
+            String weather = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                // 문자열이 아닌 date/weather 값(객체, 배열, 숫자, null)은 해당 항목을 무시합니다.
+                // 객체나 배열이면 skipChildren() 으로 끝까지 건너뛰어야 다음 필드를 제대로 읽습니다.
+                if (valueToken != JsonToken.VALUE_STRING) {
+                    parser.skipChildren();
+                    if ("date".equals(fieldName)) {
+                        slot = -1;
+                    } else if ("weather".equals(fieldName)) {
+                        weather = null;
+                    }
+                } else if ("date".equals(fieldName)) {
+                    slot = toSlot(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                } else if ("weather".equals(fieldName)) {
+                    weather = canonicalWeather.computeIfAbsent(parser.getText(), w -> w);
+                }
+            }
+
+            // 같은 날짜가 여러 번 나오면 처음 값을 사용합니다.
+            if (slot >= 0 && weather != null && weatherBySlot[slot] == null) {
+                weatherBySlot[slot] = weather;
+                entries++;
+            }
+        }
+
+        if (entries == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return weatherBySlot;
+    }
+
+    // "MM-dd" 형식만 허용합니다.
+    private static int toSlot(char[] text, int offset, int length) {
+        if (length != 5 || text[offset + 2] != '-') {
+            return -1;
+        }
+        int month = twoDigits(text, offset);
+        int day = twoDigits(text, offset + 3);
+        return month < 0 || day < 0 ? -1 : WeatherSnapshot.slotOf(month, day);
+    }
+
+    private static int twoDigits(char[] text, int offset) {
+        int tens = text[offset] - '0';
+        int ones = text[offset + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
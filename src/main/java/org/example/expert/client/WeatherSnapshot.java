@@ -0,0 +1,45 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 마지막으로 가져온 날씨 피드 전체를 보관하는 불변 스냅샷
+ * 윤년 기준 연중 일자(0~365)를 인덱스로 하는 366칸 배열이라 조회 시 할당이 없습니다.
+ */
+public class WeatherSnapshot {
+
+    public static final int SLOT_COUNT = 366;
+
+    // 윤년 기준 각 월 1일의 연중 일자 (0부터 시작)
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final String[] weatherBySlot;
+    @Getter
+    private final Instant refreshedAt;
+
+    public WeatherSnapshot(String[] weatherBySlot, Instant refreshedAt) {
+        if (weatherBySlot.length != SLOT_COUNT) {
+            throw new IllegalArgumentException("weatherBySlot must have " + SLOT_COUNT + " slots");
+        }
+        this.weatherBySlot = weatherBySlot;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public String findWeather(LocalDate date) {
+        return weatherBySlot[slotOf(date.getMonthValue(), date.getDayOfMonth())];
+    }
+
+    /**
+     * 월/일을 슬롯 번호로 변환합니다. 유효하지 않은 날짜면 -1 을 반환합니다.
+     */
+    public static int slotOf(int month, int day) {
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1]) {
+            return -1;
+        }
+        return MONTH_OFFSETS[month - 1] + day - 1;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.expert.client;
+
+/**
+ * 날씨 피드를 읽어오는 원천
+ * weather.source 설정(http, file)에 따라 하나의 구현체만 빈으로 등록됩니다.
+ */
+public interface WeatherSource {
+
+    /**
+     * 날씨 피드 전체를 읽어 {@link WeatherSnapshot#SLOT_COUNT} 크기의 날짜 슬롯 배열로 반환합니다.
+     */
+    String[] load();
+}
@@ -0,0 +1,156 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 하나가 처리되는 동안 해당 스레드가 할당한 힙 바이트를 라우트별로 집계합니다.
+ *
+ * <p>HotSpot 의 스레드별 할당 카운터(TLAB 기준)를 요청 전후로 읽은 차이라서, 같은 스레드에서 일어난
+ * 필터/컨트롤러/Jackson 직렬화 할당이 모두 포함되고 다른 스레드(비동기 작업 등)의 할당은 빠집니다.
+ * sample-rate 건 중 한 건만 측정하며, JVM 이 지원하지 않으면 아무것도 기록하지 않습니다.
+ * 라우트 수는 max-routes 로 제한하고, 넘친 라우트는 OVERFLOW 하나로 모아 메모리와 meter 수가 늘지 않게 합니다.</p>
+ */
+@Slf4j(topic = "AllocationTracking")
+@Component
+public class AllocationRecorder {
+
+    static final String OVERFLOW_ROUTE = "OVERFLOW";
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final int sampleRate;
+    private final int summaryTopN;
+    private final int maxRoutes;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RouteAllocation> routes = new ConcurrentHashMap<>();
+
+    public AllocationRecorder(
+            @Value("${allocation.tracking.enabled:true}") boolean enabled,
+            @Value("${allocation.tracking.sample-rate:10}") int sampleRate,
+            @Value("${allocation.tracking.summary-top-n:5}") int summaryTopN,
+            @Value("${allocation.tracking.max-routes:200}") int maxRoutes,
+            MeterRegistry meterRegistry
+    ) {
+        this.threadMXBean = enabled ? supportedThreadMXBean() : null;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.summaryTopN = summaryTopN;
+        this.maxRoutes = maxRoutes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이번 요청을 측정할지 결정합니다. 측정하지 않는 요청은 카운터를 읽지도 않습니다.
+     */
+    public boolean shouldSample() {
+        return threadMXBean != null && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    public long currentThreadAllocatedBytes() {
+        return threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    public void record(String route, long allocatedBytes) {
+        if (allocatedBytes < 0) {
+            return;
+        }
+        RouteAllocation allocation = routes.get(route);
+        if (allocation == null) {
+            String key = routes.size() < maxRoutes ? route : OVERFLOW_ROUTE;
+            allocation = routes.computeIfAbsent(key, k -> new RouteAllocation(k, meterRegistry));
+        }
+        allocation.record(allocatedBytes);
+    }
+
+    /**
+     * 요청당 평균 할당량이 큰 순서의 라우트별 집계
+     */
+    public List<RouteAllocation> snapshot() {
+        List<RouteAllocation> snapshot = new ArrayList<>(routes.values());
+        snapshot.sort(Comparator.comparingDouble(RouteAllocation::getMeanBytes).reversed());
+        return snapshot;
+    }
+
+    /**
+     * 요청당 평균 할당량 상위 라우트를 주기적으로 로그에 남깁니다.
+     */
+    @Scheduled(initialDelayString = "${allocation.tracking.summary-interval-ms:300000}",
+            fixedDelayString = "${allocation.tracking.summary-interval-ms:300000}")
+    public void logSummary() {
+        List<RouteAllocation> snapshot = snapshot();
+        for (int i = 0; i < Math.min(summaryTopN, snapshot.size()); i++) {
+            RouteAllocation allocation = snapshot.get(i);
+            log.info("요청당 할당량 route={}, samples={}, meanBytes={}, maxBytes={}",
+                    allocation.getRoute(), allocation.getSamples(), (long) allocation.getMeanBytes(), allocation.getMaxBytes());
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean supportedThreadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            log.warn("이 JVM 은 스레드별 할당량 측정을 지원하지 않아 할당 추적을 끕니다.");
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+
+    public static final class RouteAllocation {
+
+        @Getter
+        private final String route;
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final LongAccumulator maxBytes = new LongAccumulator(Math::max, 0);
+        private final DistributionSummary summary;
+
+        private RouteAllocation(String route, MeterRegistry meterRegistry) {
+            this.route = route;
+            this.summary = DistributionSummary.builder("http.server.requests.allocated")
+                    .description("샘플링한 요청 한 건이 요청 스레드에서 할당한 힙 크기")
+                    .baseUnit("bytes")
+                    .tag("route", route)
+                    .register(meterRegistry);
+        }
+
+        private void record(long bytes) {
+            samples.increment();
+            totalBytes.add(bytes);
+            maxBytes.accumulate(bytes);
+            summary.record(bytes);
+        }
+
+        public long getSamples() {
+            return samples.sum();
+        }
+
+        public long getTotalBytes() {
+            return totalBytes.sum();
+        }
+
+        public long getMaxBytes() {
+            return maxBytes.get();
+        }
+
+        public double getMeanBytes() {
+            long count = samples.sum();
+            return count == 0 ? 0 : (double) totalBytes.sum() / count;
+        }
+    }
+}
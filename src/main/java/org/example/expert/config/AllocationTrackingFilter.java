@@ -0,0 +1,49 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 샘플링한 요청의 처리 전후로 스레드 할당 카운터를 읽어 라우트별로 기록합니다.
+ * 라우트는 매칭된 핸들러의 URL 패턴(/todos/{todoId})이라 경로 변수 값마다 따로 집계되지 않습니다.
+ */
+@RequiredArgsConstructor
+public class AllocationTrackingFilter implements Filter {
+
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+    static final String OTHER_METHOD = "OTHER";
+
+    // Tomcat 은 임의의 토큰을 메서드로 받아 주므로, 표준 메서드가 아니면 하나로 묶어 라우트 수가 늘지 않게 합니다.
+    private static final Set<String> STANDARD_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final AllocationRecorder allocationRecorder;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (!allocationRecorder.shouldSample()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long before = allocationRecorder.currentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = allocationRecorder.currentThreadAllocatedBytes() - before;
+            allocationRecorder.record(routeOf((HttpServletRequest) request), allocated);
+        }
+    }
+
+    // 인증 실패처럼 핸들러까지 가지 않은 요청은 UNMATCHED 로 묶습니다.
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = STANDARD_METHODS.contains(request.getMethod()) ? request.getMethod() : OTHER_METHOD;
+        return method + " " + (pattern == null ? UNMATCHED_ROUTE : pattern);
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * 일정 날씨 보강 작업 전용 Executor
+     * 큐가 가득 차 버려진 작업은 PENDING 상태로 남아 backfill 스케줄러가 다시 처리합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor weatherEnrichmentExecutor(
+            @Value("${todo.weather.enrichment.threads:2}") int threads,
+            @Value("${todo.weather.enrichment.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("weather-enrich-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JwtFilter 의 인증 실패를 유형별 카운터로 집계합니다.
+ *
+ * <p>잘못된 토큰을 대량으로 보내는 클라이언트가 있어도 로그가 넘치지 않도록, 요청마다 스택 트레이스를 남기지 않고
+ * 일부만 샘플링해 초당 최대 건수까지만 한 줄 로그로 남깁니다. 전체 건수는 주기적인 요약 로그와
+ * /admin/metrics/auth-failures 로 확인합니다.</p>
+ */
+@Slf4j(topic = "AuthFailure")
+@Component
+public class AuthFailureRecorder {
+
+    private final int sampleRate;
+    private final int maxLogsPerSecond;
+
+    private final Map<AuthFailureType, LongAdder> totals = new EnumMap<>(AuthFailureType.class);
+    private final Map<AuthFailureType, Long> lastSummarized = new EnumMap<>(AuthFailureType.class);
+    private final LongAdder loggedCount = new LongAdder();
+    private final LongAdder suppressedCount = new LongAdder();
+
+    private final AtomicLong logWindowSecond = new AtomicLong();
+    private final AtomicInteger logsInWindow = new AtomicInteger();
+
+    public AuthFailureRecorder(
+            @Value("${auth.failure-log.sample-rate:100}") int sampleRate,
+            @Value("${auth.failure-log.max-per-second:5}") int maxLogsPerSecond,
+            MeterRegistry meterRegistry
+    ) {
+        this.sampleRate = Math.max(1, sampleRate);
+        this.maxLogsPerSecond = maxLogsPerSecond;
+
+        for (AuthFailureType type : AuthFailureType.values()) {
+            LongAdder total = new LongAdder();
+            totals.put(type, total);
+            lastSummarized.put(type, 0L);
+            FunctionCounter.builder("auth.failures", total, LongAdder::sum)
+                    .tag("type", tagOf(type))
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("auth.failures.logs", suppressedCount, LongAdder::sum)
+                .tag("result", "suppressed")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.failures.logs", loggedCount, LongAdder::sum)
+                .tag("result", "logged")
+                .register(meterRegistry);
+    }
+
+    public void record(AuthFailureType type, String detail) {
+        totals.get(type).increment();
+
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            suppressedCount.increment();
+            return;
+        }
+        if (!tryAcquireLogPermit()) {
+            suppressedCount.increment();
+            return;
+        }
+        loggedCount.increment();
+        log.warn("인증 실패 (1/{} 샘플) type={}, detail={}", sampleRate, tagOf(type), detail);
+    }
+
+    public Map<String, Long> totals() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        totals.forEach((type, total) -> snapshot.put(tagOf(type), total.sum()));
+        return snapshot;
+    }
+
+    public long getLoggedCount() {
+        return loggedCount.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressedCount.sum();
+    }
+
+    /**
+     * 직전 요약 이후 늘어난 실패 건수를 한 줄로 남깁니다. 실패가 없었으면 남기지 않습니다.
+     */
+    @Scheduled(initialDelayString = "${auth.failure-log.summary-interval-ms:60000}",
+            fixedDelayString = "${auth.failure-log.summary-interval-ms:60000}")
+    public synchronized void logSummary() {
+        Map<String, Long> increments = new LinkedHashMap<>();
+        totals.forEach((type, total) -> {
+            long current = total.sum();
+            long delta = current - lastSummarized.put(type, current);
+            if (delta > 0) {
+                increments.put(tagOf(type), delta);
+            }
+        });
+        if (!increments.isEmpty()) {
+            log.warn("최근 인증 실패 요약 {}", increments);
+        }
+    }
+
+    private boolean tryAcquireLogPermit() {
+        long second = System.currentTimeMillis() / 1000;
+        long windowSecond = logWindowSecond.get();
+        if (second != windowSecond && logWindowSecond.compareAndSet(windowSecond, second)) {
+            logsInWindow.set(0);
+        }
+        return logsInWindow.incrementAndGet() <= maxLogsPerSecond;
+    }
+
+    private static String tagOf(AuthFailureType type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+}
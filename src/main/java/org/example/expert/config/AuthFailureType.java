@@ -0,0 +1,12 @@
+package org.example.expert.config;
+
+public enum AuthFailureType {
+    MISSING_TOKEN,
+    INVALID_SIGNATURE,
+    EXPIRED,
+    UNSUPPORTED,
+    INVALID_TOKEN,
+    SESSION_NOT_FOUND,
+    REVOKED,
+    FORBIDDEN
+}
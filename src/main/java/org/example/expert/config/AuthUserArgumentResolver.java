@@ -36,11 +36,22 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     ) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
+        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴 (compact 토큰이면 email 은 null 일 수 있음)
         Long userId = (Long) request.getAttribute("userId");
         String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
+        UserRole userRole = resolveUserRole(request.getAttribute("userRole"));
 
         return new AuthUser(userId, email, userRole);
     }
+
+    // userRole 은 enum, 역할 이름, 역할 코드 중 어느 형태로 들어와도 받습니다.
+    private static UserRole resolveUserRole(Object userRole) {
+        if (userRole instanceof UserRole role) {
+            return role;
+        }
+        if (userRole instanceof Number code) {
+            return UserRole.ofCode(code.intValue());
+        }
+        return UserRole.of((String) userRole);
+    }
 }
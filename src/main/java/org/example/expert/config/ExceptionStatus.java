@@ -0,0 +1,21 @@
+package org.example.expert.config;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 예외를 응답 상태 코드로 바꾸는 규칙
+ * 예외 클래스에 붙은 {@link ResponseStatus} 를 따르며, 없으면 500 입니다.
+ * GlobalExceptionHandler 와 AccessLogAspect 가 함께 사용해 응답과 접근 로그의 상태 코드가 어긋나지 않게 합니다.
+ */
+public final class ExceptionStatus {
+
+    private ExceptionStatus() {
+    }
+
+    public static HttpStatus of(Throwable e) {
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(e.getClass(), ResponseStatus.class);
+        return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -4,19 +4,34 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenVerifier tokenVerifier;
+    private final AuthFailureRecorder authFailureRecorder;
+    private final AllocationRecorder allocationRecorder;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, tokenVerifier, authFailureRecorder));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<AllocationTrackingFilter> allocationTrackingFilter() {
+        FilterRegistrationBean<AllocationTrackingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AllocationTrackingFilter(allocationRecorder));
+        registrationBean.addUrlPatterns("/*");
+        // JwtFilter 와 다른 필터의 할당까지 포함하도록 가장 바깥에서 감쌉니다.
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registrationBean;
+    }
 }
@@ -0,0 +1,127 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서명 검증을 마친 토큰의 사용자 정보를 토큰 만료 시각까지 보관하는 캐시
+ * 같은 토큰으로 다시 요청하면 JWT 파싱과 HMAC 검증을 건너뜁니다.
+ * 키는 토큰 원문 대신 SHA-256 digest 를 사용하고, 검증에 성공한 토큰만 저장합니다.
+ * 만료된 항목은 주기적으로 지우며, 가득 찼을 때의 정리는 최대 초당 한 번만 수행합니다.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private static final long FULL_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final Map<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final AtomicLong lastFullSweepMillis = new AtomicLong(Long.MIN_VALUE / 2);
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtClaimsCache(
+            @Value("${jwt.claims-cache.enabled:true}") boolean enabled,
+            @Value("${jwt.claims-cache.max-size:100000}") int maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.hitCounter = Counter.builder("jwt.claims.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.claims.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("jwt.claims.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 있고 아직 만료되지 않은 토큰이면 검증된 사용자 정보를, 아니면 null 을 반환합니다.
+     */
+    public VerifiedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        ByteBuffer key = digest(token);
+        VerifiedToken verifiedToken = entries.get(key);
+        if (verifiedToken == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (verifiedToken.getExpiresAtMillis() <= System.currentTimeMillis()) {
+            // 만료된 토큰은 다시 파싱하게 해서 기존과 같은 만료 응답을 돌려줍니다.
+            entries.remove(key, verifiedToken);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return verifiedToken;
+    }
+
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (!enabled) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            // 전체를 훑는 정리는 한 스레드만, 초당 한 번까지만 합니다. 나머지 요청은 저장만 건너뜁니다.
+            long now = System.currentTimeMillis();
+            long lastSweep = lastFullSweepMillis.get();
+            if (now - lastSweep >= FULL_SWEEP_INTERVAL_MILLIS && lastFullSweepMillis.compareAndSet(lastSweep, now)) {
+                evictExpired(now);
+            }
+            if (entries.size() >= maxSize) {
+                // 가득 찬 상태에서는 새 토큰을 저장하지 않고 기존 항목이 만료되기를 기다립니다.
+                return;
+            }
+        }
+        entries.put(digest(token), verifiedToken);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.claims-cache.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        if (enabled) {
+            evictExpired(System.currentTimeMillis());
+        }
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(verifiedToken -> verifiedToken.getExpiresAtMillis() <= now);
+    }
+
+    private static ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -1,7 +1,7 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.servlet.FilterConfig;
@@ -9,16 +9,16 @@ import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
 
-@Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final TokenVerifier tokenVerifier;
+    private final AuthFailureRecorder authFailureRecorder;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -41,50 +41,74 @@ public class JwtFilter implements Filter {
 
         if (bearerJwt == null) {
             // 토큰이 없는 경우 400을 반환합니다.
+            authFailureRecorder.record(AuthFailureType.MISSING_TOKEN, url);
             httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "JWT 토큰이 필요합니다.");
             return;
         }
 
         String jwt = jwtUtil.substringToken(bearerJwt);
 
+        // 토큰 검증에서 난 예외만 인증 실패로 처리합니다. chain 안의 애플리케이션 예외는 그대로 전파합니다.
+        VerifiedToken verifiedToken;
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            verifiedToken = tokenVerifier.verify(jwt);
+        } catch (SecurityException | MalformedJwtException e) {
+            // 인증 실패는 스택 트레이스 없이 유형별 카운터로 집계하고, 로그는 샘플링해서 남깁니다.
+            authFailureRecorder.record(AuthFailureType.INVALID_SIGNATURE, e.getMessage());
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
+            return;
+        } catch (ExpiredJwtException e) {
+            authFailureRecorder.record(AuthFailureType.EXPIRED, e.getMessage());
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
+            return;
+        } catch (UnsupportedJwtException e) {
+            authFailureRecorder.record(AuthFailureType.UNSUPPORTED, e.getMessage());
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명 키 불일치 등 그 밖의 jjwt 예외와 알 수 없는 claim 값
+            authFailureRecorder.record(AuthFailureType.INVALID_TOKEN, e.getClass().getSimpleName() + ": " + e.getMessage());
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+            return;
+        }
+
+        if (verifiedToken == null) {
+            if (tokenVerifier.isSessionToken(jwt)) {
+                authFailureRecorder.record(AuthFailureType.SESSION_NOT_FOUND, url);
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 세션 토큰입니다.");
                 return;
             }
+            authFailureRecorder.record(AuthFailureType.INVALID_TOKEN, url);
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            return;
+        }
+
+        // 역할/비밀번호 변경으로 폐기된 토큰인지 확인합니다. (캐시에 있던 토큰도 매번 확인)
+        if (tokenVerifier.isRevoked(verifiedToken)) {
+            authFailureRecorder.record(AuthFailureType.REVOKED, "userId=" + verifiedToken.getUserId());
+            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+            return;
+        }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+        UserRole userRole = verifiedToken.getUserRole();
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+        httpRequest.setAttribute("userId", verifiedToken.getUserId());
+        httpRequest.setAttribute("email", verifiedToken.getEmail());
+        // compact 토큰은 email 이 없을 수 있고, 역할은 문자열로 바꾸지 않고 enum 그대로 넘깁니다.
+        httpRequest.setAttribute("userRole", userRole);
 
-            if (url.startsWith("/admin")) {
-                // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
-                    httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
-                    return;
-                }
-                chain.doFilter(request, response);
+        if (url.startsWith("/admin")) {
+            // 관리자 권한이 없는 경우 403을 반환합니다.
+            if (!UserRole.ADMIN.equals(userRole)) {
+                authFailureRecorder.record(AuthFailureType.FORBIDDEN, "userId=" + verifiedToken.getUserId() + ", url=" + url);
+                httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                 return;
             }
-
             chain.doFilter(request, response);
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
-        } catch (Exception e) {
-            log.error("Invalid JWT token, 유효하지 않는 JWT 토큰 입니다.", e);
-            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효하지 않는 JWT 토큰입니다.");
+            return;
         }
+
+        chain.doFilter(request, response);
     }
 
     @Override
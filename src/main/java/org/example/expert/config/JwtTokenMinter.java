@@ -0,0 +1,106 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * HS256 JWT 를 직접 조립해 서명합니다.
+ *
+ * <p>헤더는 항상 {"alg":"HS256"} 이므로 한 번만 인코딩해 두고, HMAC 인스턴스는 스레드마다 재사용합니다.
+ * payload 는 Jwts.builder() 가 만들던 것과 같은 순서(sub, email, userRole, exp, iat)로 쓰기 때문에
+ * 결과 토큰은 기존 방식과 바이트 단위로 같고, {@link JwtUtil#extractClaims(String)} 로 그대로 검증됩니다.</p>
+ *
+ * <p>compact 형식은 짧은 claim 키(r: 역할 코드, e: 이메일)를 쓰고 이메일을 생략할 수 있어
+ * Authorization 헤더가 짧아지고 검증 시 파싱할 양도 줄어듭니다.</p>
+ */
+class JwtTokenMinter {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final String ENCODED_HEADER =
+            BASE64_URL.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private final ThreadLocal<Mac> macs;
+
+    JwtTokenMinter(byte[] keyBytes) {
+        SecretKeySpec keySpec = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 을 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    String mint(Long userId, String email, UserRole userRole, long issuedAtMillis, long expiresAtMillis) {
+        StringBuilder payload = new StringBuilder(128);
+        payload.append("{\"sub\":\"").append(userId).append('"');
+        if (email != null) {
+            payload.append(",\"email\":");
+            appendJsonString(payload, email);
+        }
+        if (userRole != null) {
+            payload.append(",\"userRole\":\"").append(userRole.name()).append('"');
+        }
+        payload.append(",\"exp\":").append(expiresAtMillis / 1000)
+                .append(",\"iat\":").append(issuedAtMillis / 1000)
+                .append('}');
+
+        return sign(payload);
+    }
+
+    String mintCompact(Long userId, String email, UserRole userRole, long issuedAtMillis, long expiresAtMillis) {
+        StringBuilder payload = new StringBuilder(96);
+        payload.append("{\"sub\":\"").append(userId).append('"')
+                .append(",\"r\":").append(userRole.getCode());
+        if (email != null) {
+            payload.append(",\"e\":");
+            appendJsonString(payload, email);
+        }
+        payload.append(",\"exp\":").append(expiresAtMillis / 1000)
+                .append(",\"iat\":").append(issuedAtMillis / 1000)
+                .append('}');
+
+        return sign(payload);
+    }
+
+    private String sign(CharSequence payload) {
+        String signingInput = ENCODED_HEADER + '.'
+                + BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        return signingInput + '.' + BASE64_URL.encodeToString(signature);
+    }
+
+    // Jackson 과 같은 규칙으로 문자열을 JSON 이스케이프합니다.
+    private static void appendJsonString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                case '\b' -> builder.append("\\b");
+                case '\f' -> builder.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        builder.append('"');
+    }
+}
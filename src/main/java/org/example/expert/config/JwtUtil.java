@@ -1,8 +1,8 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -14,38 +14,54 @@ import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    public static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
+
+    // 검증은 두 형식 모두 지원하므로, 배포 중에 켜거나 꺼도 이미 발급된 토큰은 그대로 사용할 수 있습니다.
+    @Value("${jwt.compact.enabled:false}")
+    private boolean compactEnabled;
+
+    @Value("${jwt.compact.include-email:true}")
+    private boolean compactIncludeEmail = true;
+
     private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    private JwtParser jwtParser;
+    private JwtTokenMinter tokenMinter;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        tokenMinter = new JwtTokenMinter(bytes);
+        // JwtParser 는 불변이고 thread-safe 하므로 한 번만 만들어 재사용합니다.
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
+        return createToken(userId, email, userRole, System.currentTimeMillis());
+    }
+
+    /**
+     * 발급 시각을 지정해 토큰을 만듭니다. 토큰 폐기 직후에는 폐기 시각 이후로 발급해야 하므로 사용합니다.
+     */
+    public String createToken(Long userId, String email, UserRole userRole, long now) {
+        if (compactEnabled) {
+            String compactEmail = compactIncludeEmail ? email : null;
+            return BEARER_PREFIX + tokenMinter.mintCompact(userId, compactEmail, userRole, now, now + TOKEN_TIME);
+        }
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        // Jwts.builder() 와 같은 토큰을 헤더 직렬화, 서명 객체 생성 없이 만듭니다.
+        return BEARER_PREFIX + tokenMinter.mint(userId, email, userRole, now, now + TOKEN_TIME);
     }
 
     public String substringToken(String tokenValue) {
@@ -56,9 +72,7 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -1,17 +1,214 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.jfr.PasswordHashEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.*;
+
+/**
+ * bcrypt 해시/검증은 CPU 를 오래 점유하므로 요청 스레드가 아닌 전용 Executor 에서 실행합니다.
+ * 스레드 수는 CPU 코어 수, 대기 큐는 고정 크기라서 로그인이 몰려도 Tomcat 워커가 모두 묶이지 않고,
+ * 큐가 가득 차면 기다리지 않고 503 으로 바로 거절합니다.
+ *
+ * <p>bcrypt cost 는 auth.password.cost 로 지정하고, calibration 을 켜면 기동 시 현재 장비에서
+ * 목표 시간 안에 끝나는 가장 높은 cost 를 측정해 사용합니다. (설정한 cost 보다 낮아지지는 않습니다)
+ * 여러 인스턴스로 운영할 때는 calibration 결과가 모든 노드에서 같아야 합니다. 노드마다 cost 가 다르면
+ * cost 가 높은 노드에서 로그인한 사용자만 다시 해시되고, 나머지는 가장 높은 cost 쪽으로만 올라갑니다.
+ * 장비가 섞여 있다면 calibration 을 끄고 auth.password.cost 를 명시하는 편이 안전합니다.</p>
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private final ThreadPoolExecutor hashExecutor;
+    private final long maxWaitMillis;
+    private final int configuredCost;
+
+    @Value("${auth.password.calibration.enabled:false}")
+    private boolean calibrationEnabled;
+
+    @Value("${auth.password.calibration.target-ms:250}")
+    private long calibrationTargetMillis;
+
+    @Value("${auth.password.calibration.max-cost:14}")
+    private int calibrationMaxCost;
+
+    private volatile int cost;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordEncoder(
+            @Value("${auth.password.threads:0}") int threads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.max-wait-ms:5000}") long maxWaitMillis,
+            @Value("${auth.password.cost:4}") int cost,
+            MeterRegistry meterRegistry
+    ) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("bcrypt cost must be between " + BCrypt.MIN_COST + " and " + BCrypt.MAX_COST);
+        }
+        this.configuredCost = cost;
+        this.cost = cost;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.hashExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = maxWaitMillis;
+
+        this.encodeTimer = Timer.builder("auth.password.hash.duration")
+                .description("bcrypt 연산 소요 시간 (큐 대기 제외)")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash.duration")
+                .description("bcrypt 연산 소요 시간 (큐 대기 제외)")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("bcrypt 작업이 큐에서 대기한 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("큐가 가득 차거나 대기 시간을 넘겨 거절된 bcrypt 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", hashExecutor, executor -> executor.getQueue().size())
+                .description("대기 중인 bcrypt 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", hashExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 bcrypt 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.cost", this, PasswordEncoder::getCost)
+                .description("새로 해시할 때 사용하는 bcrypt cost")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void calibrate() {
+        if (!calibrationEnabled) {
+            return;
+        }
+        int calibrated = configuredCost;
+        for (int candidate = configuredCost; candidate <= calibrationMaxCost; candidate++) {
+            long elapsedMillis = measureHashMillis(candidate);
+            if (elapsedMillis > calibrationTargetMillis) {
+                break;
+            }
+            calibrated = candidate;
+        }
+        cost = calibrated;
+        log.info("bcrypt cost 를 {} 로 설정했습니다. targetMs={}, configuredCost={}",
+                calibrated, calibrationTargetMillis, configuredCost);
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 cost 보다 낮으면 true 를 반환합니다.
+     * 더 높은 cost 로 저장된 해시는 약하게 바꾸지 않도록 그대로 두고, 형식을 알 수 없는 해시는 다시 해시합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return costOf(encodedPassword) < cost;
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return submit(encodeTimer, "encode", currentCost,
+                () -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray()));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return submit(matchesTimer, "matches", costOf(encodedPassword),
+                () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    // $2a$10$... 형식에서 cost 는 4~5번째 문자입니다. 형식이 다르면 -1 을 반환합니다.
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static long measureHashMillis(int candidateCost) {
+        char[] sample = "calibration-password".toCharArray();
+        // 첫 실행은 JIT 워밍업이 섞이므로 두 번 재서 짧은 쪽을 사용합니다.
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.withDefaults().hash(candidateCost, sample);
+            best = Math.min(best, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+        return best;
+    }
+
+    private <T> T submit(Timer timer, String operation, int hashCost, Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                if (!PasswordHashEvent.TYPE.isEnabled()) {
+                    return timer.recordCallable(hashing);
+                }
+                PasswordHashEvent event = new PasswordHashEvent();
+                event.begin();
+                try {
+                    return timer.recordCallable(hashing);
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.operation = operation;
+                        event.cost = hashCost;
+                        event.commit();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
     }
 }
@@ -0,0 +1,51 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.SessionTokenStore;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.springframework.stereotype.Component;
+
+/**
+ * access token 하나를 검증해 사용자 정보를 꺼냅니다. JwtFilter 와 토큰 일괄 검증(/auth/introspect)이 함께 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final SessionTokenStore sessionTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+
+    public boolean isSessionToken(String token) {
+        return sessionTokenStore.isEnabled() && SessionTokenStore.isSessionToken(token);
+    }
+
+    /**
+     * 검증된 사용자 정보를 반환합니다. 세션 저장소에 없는 세션 토큰이면 null 을 반환하고,
+     * JWT 가 유효하지 않으면 jjwt 예외(ExpiredJwtException 등)를 그대로 던집니다.
+     */
+    public VerifiedToken verify(String token) {
+        if (isSessionToken(token)) {
+            // session 모드에서 발급한 불투명 토큰은 서명 검증 없이 세션 저장소에서 찾습니다.
+            return sessionTokenStore.resolve(token);
+        }
+
+        // JWT 유효성 검사와 claims 추출 (이미 검증한 토큰이면 캐시에서 가져옴)
+        VerifiedToken verifiedToken = jwtClaimsCache.get(token);
+        if (verifiedToken == null) {
+            Claims claims = jwtUtil.extractClaims(token);
+            if (claims == null) {
+                return null;
+            }
+            verifiedToken = VerifiedToken.from(claims);
+            jwtClaimsCache.put(token, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        return tokenRevocationService.isRevoked(verifiedToken.getUserId(), verifiedToken.getIssuedAtMillis());
+    }
+}
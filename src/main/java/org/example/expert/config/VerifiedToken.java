@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+
+/**
+ * 서명 검증을 마친 토큰에서 꺼낸 사용자 정보
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final UserRole userRole;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(Long userId, String email, UserRole userRole, long issuedAtMillis, long expiresAtMillis) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 기존 형식(email, userRole)과 compact 형식(r: 역할 코드, e: 이메일 생략 가능)을 모두 읽습니다.
+     * 서명은 맞지만 역할 claim 이 없거나 알 수 없는 값이면 다른 형식 오류와 같이 {@link JwtException} 을 던집니다.
+     */
+    public static VerifiedToken from(Claims claims) {
+        Object roleCode = claims.get("r");
+        String email;
+        UserRole userRole;
+        if (roleCode instanceof Number number) {
+            email = claims.get("e", String.class);
+            userRole = roleOfCode(number.intValue());
+        } else {
+            email = claims.get("email", String.class);
+            userRole = roleOfName(claims.get("userRole", String.class));
+        }
+
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                email,
+                userRole,
+                claims.getIssuedAt() == null ? 0L : claims.getIssuedAt().getTime(),
+                claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime()
+        );
+    }
+
+    private static UserRole roleOfCode(int code) {
+        try {
+            return UserRole.ofCode(code);
+        } catch (InvalidRequestException e) {
+            throw new JwtException("알 수 없는 역할 코드입니다. r=" + code);
+        }
+    }
+
+    private static UserRole roleOfName(String name) {
+        if (name == null) {
+            throw new JwtException("userRole claim 이 없습니다.");
+        }
+        try {
+            return UserRole.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("알 수 없는 userRole 입니다. userRole=" + name);
+        }
+    }
+}
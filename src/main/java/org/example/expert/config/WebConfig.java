@@ -1,8 +1,11 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.aop.AccessLogAspect;
+import org.example.expert.aop.AccessLogWriter;
+import org.example.expert.aop.EndpointLatencyAspect;
+import org.example.expert.aop.EndpointLatencyRecorder;
+import org.example.expert.aop.JfrEventAspect;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -14,7 +17,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
-    private final HttpServletRequest httpServletRequest;
+    private final AccessLogWriter accessLogWriter;
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
 
     // ArgumentResolver 등록
     @Override
@@ -27,6 +31,16 @@ public class WebConfig implements WebMvcConfigurer {
      */
     @Bean
     public AccessLogAspect getAccessLogAspect() {
-        return new AccessLogAspect(httpServletRequest);
+        return new AccessLogAspect(accessLogWriter);
+    }
+
+    @Bean
+    public EndpointLatencyAspect getEndpointLatencyAspect() {
+        return new EndpointLatencyAspect(endpointLatencyRecorder);
+    }
+
+    @Bean
+    public JfrEventAspect getJfrEventAspect() {
+        return new JfrEventAspect();
     }
 }
@@ -0,0 +1,34 @@
+package org.example.expert.domain.audit.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditRecordResponse;
+import org.example.expert.domain.audit.service.AuditQueryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class AuditAdminController {
+
+    private final AuditQueryService auditQueryService;
+
+    /**
+     * 관리자 API 접근 기록을 최신순으로 조회합니다. 예) /admin/audit?uri=/admin/users&from=2024-03-01T00:00:00
+     */
+    @GetMapping("/admin/audit")
+    public ResponseEntity<List<AuditRecordResponse>> getAuditRecords(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String uri,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(auditQueryService.getAuditRecords(userId, uri, from, to, limit));
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.audit.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class AuditRecordResponse {
+
+    private final LocalDateTime timestamp;
+    private final Long userId;
+    private final String uri;
+    private final int status;
+    private final long durationUs;
+
+    public AuditRecordResponse(LocalDateTime timestamp, Long userId, String uri, int status, long durationUs) {
+        this.timestamp = timestamp;
+        this.userId = userId;
+        this.uri = uri;
+        this.status = status;
+        this.durationUs = durationUs;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.audit.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.audit.dto.response.AuditRecordResponse;
+import org.example.expert.domain.audit.store.AuditRecord;
+import org.example.expert.domain.audit.store.AuditStore;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AuditQueryService {
+
+    private final AuditStore auditStore;
+
+    @Value("${audit.query.max-limit:1000}")
+    private int maxLimit;
+
+    /**
+     * from/to 를 생략하면 처음부터, 현재까지로 조회합니다.
+     */
+    public List<AuditRecordResponse> getAuditRecords(Long userId, String uri, LocalDateTime from, LocalDateTime to,
+                                                     int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidRequestException("limit 은 1 이상 " + maxLimit + " 이하여야 합니다.");
+        }
+        long fromEpochMillis = from == null ? 0 : toEpochMillis(from);
+        long toEpochMillis = to == null ? System.currentTimeMillis() : toEpochMillis(to);
+        if (fromEpochMillis > toEpochMillis) {
+            throw new InvalidRequestException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+
+        List<AuditRecord> records = auditStore.find(userId, uri, fromEpochMillis, toEpochMillis, limit);
+        return records.stream()
+                .map(record -> new AuditRecordResponse(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(record.getEpochMillis()), ZoneId.systemDefault()),
+                        record.getUserId(),
+                        record.getUri(),
+                        record.getStatus(),
+                        record.getDurationMicros()
+                ))
+                .toList();
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.audit.store;
+
+import lombok.Getter;
+
+@Getter
+public class AuditRecord {
+
+    private final Long userId;
+    private final long epochMillis;
+    private final String uri;
+    private final int status;
+    private final long durationMicros;
+
+    public AuditRecord(Long userId, long epochMillis, String uri, int status, long durationMicros) {
+        this.userId = userId;
+        this.epochMillis = epochMillis;
+        this.uri = uri;
+        this.status = status;
+        this.durationMicros = durationMicros;
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.expert.domain.audit.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 크기(128바이트) 레코드를 순서대로 쌓는 memory-mapped 세그먼트 파일
+ *
+ * <pre>
+ * 0   epochMillis (long)     8  userId (long, 없으면 -1)
+ * 16  status (int)           20 durationMicros (long)
+ * 28  uri 길이 (short)        30 uri UTF-8 (최대 98바이트, 넘으면 문자 경계에서 잘림)
+ * </pre>
+ *
+ * <p>파일은 미리 전체 크기로 만들어 두므로 epochMillis 가 0 인 첫 슬롯이 끝입니다.
+ * 세그먼트마다 시간 범위와 userId 별 레코드 위치를 메모리에 들고 있어 사용자 조회는 해당 레코드만 읽습니다.
+ * 쓰기는 한 스레드({@link AuditStore#append} 의 잠금 안)에서만 하고, 조회는 잠금 없이 동시에 합니다.
+ * 레코드 바이트와 인덱스를 먼저 쓰고 volatile size 를 마지막에 올리므로, 조회는 먼저 읽은 size 까지의 레코드만 봅니다.</p>
+ *
+ * <p>세그먼트 파일은 참조 수로 관리합니다. 저장소가 하나를 들고 있고 조회는 읽는 동안 {@link #acquire()} 로 하나씩 더 잡습니다.
+ * 보관 개수를 넘어 {@link #retire()} 된 세그먼트는 마지막 조회가 {@link #release()} 할 때 파일을 지웁니다.</p>
+ */
+@Slf4j
+class AuditSegment {
+
+    static final int RECORD_SIZE = 128;
+    static final long NO_USER = -1L;
+
+    private static final int USER_ID_OFFSET = 8;
+    private static final int STATUS_OFFSET = 16;
+    private static final int DURATION_OFFSET = 20;
+    private static final int URI_LENGTH_OFFSET = 28;
+    private static final int URI_OFFSET = 30;
+    private static final int MAX_URI_BYTES = RECORD_SIZE - URI_OFFSET;
+
+    private final Path file;
+    private final int capacity;
+    private final MappedByteBuffer buffer;
+    private final Map<Long, PositionList> positionsByUser = new ConcurrentHashMap<>();
+    // 저장소가 가진 참조 1 + 읽고 있는 조회 수. 0 이 되면 파일을 지우고 다시 잡을 수 없습니다.
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private volatile int size;
+    private volatile long minEpochMillis = Long.MAX_VALUE;
+    private volatile long maxEpochMillis = Long.MIN_VALUE;
+
+    AuditSegment(Path file, int capacity) throws IOException {
+        this.file = file;
+        this.capacity = capacity;
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file.toFile(), "rw")) {
+            if (randomAccessFile.length() < (long) capacity * RECORD_SIZE) {
+                randomAccessFile.setLength((long) capacity * RECORD_SIZE);
+            }
+            this.buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+        }
+        recover();
+    }
+
+    // 재시작 시 기존 레코드를 읽어 인덱스를 다시 만듭니다.
+    private void recover() {
+        while (size < capacity && buffer.getLong(size * RECORD_SIZE) != 0) {
+            int position = size * RECORD_SIZE;
+            index(size, buffer.getLong(position + USER_ID_OFFSET), buffer.getLong(position));
+            size++;
+        }
+    }
+
+    boolean isFull() {
+        return size >= capacity;
+    }
+
+    void append(long userId, long epochMillis, String uri, int status, long durationMicros) {
+        int position = size * RECORD_SIZE;
+        byte[] uriBytes = uri == null ? new byte[0] : uri.getBytes(StandardCharsets.UTF_8);
+        int uriLength = truncatedLength(uriBytes);
+
+        buffer.putLong(position + USER_ID_OFFSET, userId);
+        buffer.putInt(position + STATUS_OFFSET, status);
+        buffer.putLong(position + DURATION_OFFSET, durationMicros);
+        buffer.putShort(position + URI_LENGTH_OFFSET, (short) uriLength);
+        buffer.put(position + URI_OFFSET, uriBytes, 0, uriLength);
+        // epochMillis 를 마지막에 써서, 중간에 멈춘 레코드는 복구 시 빈 슬롯으로 보이게 합니다.
+        buffer.putLong(position, Math.max(1, epochMillis));
+
+        index(size, userId, epochMillis);
+        size++;
+    }
+
+    // 잘린 자리가 멀티바이트 문자 중간(10xxxxxx 연속 바이트)이면 그 문자의 시작 바이트 앞까지 물러납니다.
+    static int truncatedLength(byte[] utf8) {
+        if (utf8.length <= MAX_URI_BYTES) {
+            return utf8.length;
+        }
+        int length = MAX_URI_BYTES;
+        while (length > 0 && (utf8[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return length;
+    }
+
+    /**
+     * 조회가 세그먼트를 읽기 전에 호출합니다. 이미 지워진 세그먼트면 false 를 반환하고, 이때는 읽지 않습니다.
+     */
+    boolean acquire() {
+        while (true) {
+            int current = references.get();
+            if (current == 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        if (references.decrementAndGet() == 0) {
+            try {
+                // 매핑은 더 이상 참조되지 않아 GC 때 해제됩니다.
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("보관 기간이 지난 감사 세그먼트를 지우지 못했습니다. file={}, cause={}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장소의 참조를 내려놓습니다. 읽고 있는 조회가 없으면 바로, 있으면 마지막 조회가 끝날 때 파일이 지워집니다.
+     */
+    void retire() {
+        release();
+    }
+
+    boolean overlaps(long fromEpochMillis, long toEpochMillis) {
+        return size > 0 && minEpochMillis <= toEpochMillis && maxEpochMillis >= fromEpochMillis;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 해당 사용자의 레코드 번호 목록. 없으면 null.
+     */
+    PositionList positionsOf(long userId) {
+        return positionsByUser.get(userId);
+    }
+
+    long epochMillisAt(int index) {
+        return buffer.getLong(index * RECORD_SIZE);
+    }
+
+    AuditRecord read(int index) {
+        int position = index * RECORD_SIZE;
+        long userId = buffer.getLong(position + USER_ID_OFFSET);
+        int uriLength = buffer.getShort(position + URI_LENGTH_OFFSET);
+        byte[] uriBytes = new byte[uriLength];
+        buffer.get(position + URI_OFFSET, uriBytes);
+        return new AuditRecord(
+                userId == NO_USER ? null : userId,
+                buffer.getLong(position),
+                new String(uriBytes, StandardCharsets.UTF_8),
+                buffer.getInt(position + STATUS_OFFSET),
+                buffer.getLong(position + DURATION_OFFSET)
+        );
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private void index(int index, long userId, long epochMillis) {
+        if (epochMillis < minEpochMillis) {
+            minEpochMillis = epochMillis;
+        }
+        if (epochMillis > maxEpochMillis) {
+            maxEpochMillis = epochMillis;
+        }
+        if (userId != NO_USER) {
+            positionsByUser.computeIfAbsent(userId, key -> new PositionList()).add(index);
+        }
+    }
+
+    /**
+     * 쓰기 스레드 하나가 늘리고 여러 조회 스레드가 읽는 int 목록
+     * 조회는 size() 를 먼저 읽고 positions() 로 배열을 가져오며, 늘어난 배열에도 이전 값이 모두 복사되어 있습니다.
+     */
+    static final class PositionList {
+
+        private volatile int[] positions = new int[4];
+        private volatile int size;
+
+        private void add(int position) {
+            int[] current = positions;
+            if (size == current.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(current, 0, grown, 0, size);
+                current = grown;
+            }
+            current[size] = position;
+            positions = current;
+            size = size + 1;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] positions() {
+            return positions;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.expert.domain.audit.store;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 API 접근 기록을 저장하는 append-only 감사 저장소
+ *
+ * <p>접근 로그 writer 스레드가 레코드를 넣고, /admin/audit 조회가 시간 범위나 userId 로 읽습니다.
+ * 세그먼트(audit-000001.seg)가 가득 차면 다음 세그먼트로 넘어가고, max-segments 를 넘으면 가장 오래된 세그먼트를 지웁니다.
+ * 쓰기는 접근 로그 writer 스레드에서만 잠금을 잡고, 조회는 세그먼트 목록과 각 세그먼트의 size 스냅샷으로
+ * 잠금 없이 읽으므로 오래 걸리는 조회가 있어도 접근 로그 기록이 막히지 않습니다.</p>
+ */
+@Slf4j
+@Component
+public class AuditStore {
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final int maxSegments;
+    // 바뀔 때마다 새 불변 목록으로 교체해, 조회는 읽은 시점의 목록을 그대로 사용합니다.
+    private volatile List<AuditSegment> segments = List.of();
+    private long nextSegmentNumber = 1;
+
+    public AuditStore(
+            @Value("${audit.dir:audit}") String directory,
+            @Value("${audit.records-per-segment:65536}") int recordsPerSegment,
+            @Value("${audit.max-segments:64}") int maxSegments
+    ) {
+        this.directory = Paths.get(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.maxSegments = maxSegments;
+    }
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<AuditSegment> opened = new ArrayList<>();
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            opened.add(new AuditSegment(file, recordsPerSegment));
+            nextSegmentNumber = Math.max(nextSegmentNumber, segmentNumberOf(file) + 1);
+        }
+        segments = List.copyOf(opened);
+    }
+
+    public synchronized void append(Long userId, long epochMillis, String uri, int status, long durationMicros) {
+        try {
+            AuditSegment segment = activeSegment();
+            segment.append(userId == null ? AuditSegment.NO_USER : userId, epochMillis, uri, status, durationMicros);
+        } catch (IOException e) {
+            log.warn("감사 기록을 저장하지 못했습니다. cause={}", e.getMessage());
+        }
+    }
+
+    /**
+     * [from, to] 구간의 레코드를 최신순으로 최대 limit 개 반환합니다.
+     * userId 가 있으면 해당 사용자의 레코드만, uriPrefix 가 있으면 그 경로로 시작하는 레코드만 반환합니다.
+     */
+    public List<AuditRecord> find(Long userId, String uriPrefix, long fromEpochMillis, long toEpochMillis, int limit) {
+        List<AuditSegment> snapshot = segments;
+        List<AuditRecord> results = new ArrayList<>();
+        for (int s = snapshot.size() - 1; s >= 0 && results.size() < limit; s--) {
+            AuditSegment segment = snapshot.get(s);
+            if (!segment.overlaps(fromEpochMillis, toEpochMillis) || !segment.acquire()) {
+                continue;
+            }
+            try {
+                collect(results, segment, userId, uriPrefix, fromEpochMillis, toEpochMillis, limit);
+            } finally {
+                segment.release();
+            }
+        }
+        return results;
+    }
+
+    private static void collect(List<AuditRecord> results, AuditSegment segment, Long userId, String uriPrefix,
+                                long fromEpochMillis, long toEpochMillis, int limit) {
+        if (userId != null) {
+            AuditSegment.PositionList positionList = segment.positionsOf(userId);
+            if (positionList == null) {
+                return;
+            }
+            int count = positionList.size();
+            int[] positions = positionList.positions();
+            for (int i = count - 1; i >= 0 && results.size() < limit; i--) {
+                addIfMatches(results, segment, positions[i], uriPrefix, fromEpochMillis, toEpochMillis);
+            }
+        } else {
+            for (int i = segment.size() - 1; i >= 0 && results.size() < limit; i--) {
+                addIfMatches(results, segment, i, uriPrefix, fromEpochMillis, toEpochMillis);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audit.force-interval-ms:5000}")
+    public synchronized void force() {
+        List<AuditSegment> current = segments;
+        if (!current.isEmpty()) {
+            current.get(current.size() - 1).force();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        force();
+    }
+
+    private static void addIfMatches(List<AuditRecord> results, AuditSegment segment, int index, String uriPrefix,
+                                     long fromEpochMillis, long toEpochMillis) {
+        long epochMillis = segment.epochMillisAt(index);
+        if (epochMillis < fromEpochMillis || epochMillis > toEpochMillis) {
+            return;
+        }
+        AuditRecord record = segment.read(index);
+        if (uriPrefix == null || record.getUri().startsWith(uriPrefix)) {
+            results.add(record);
+        }
+    }
+
+    private AuditSegment activeSegment() throws IOException {
+        List<AuditSegment> current = segments;
+        if (!current.isEmpty() && !current.get(current.size() - 1).isFull()) {
+            return current.get(current.size() - 1);
+        }
+        if (!current.isEmpty()) {
+            current.get(current.size() - 1).force();
+        }
+
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX));
+        AuditSegment segment = new AuditSegment(file, recordsPerSegment);
+        List<AuditSegment> next = new ArrayList<>(current);
+        next.add(segment);
+
+        List<AuditSegment> removed = new ArrayList<>();
+        while (next.size() > maxSegments) {
+            removed.add(next.remove(0));
+        }
+        segments = List.copyOf(next);
+        for (AuditSegment oldest : removed) {
+            // 쓰기는 이미 새 세그먼트로 넘어갔고, 진행 중인 조회가 있으면 마지막 조회가 끝날 때 파일이 지워집니다.
+            oldest.retire();
+        }
+        return segment;
+    }
+
+    private static long segmentNumberOf(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
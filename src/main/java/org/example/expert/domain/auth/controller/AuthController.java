@@ -1,14 +1,23 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenIntrospectionRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenIntrospectionResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninThrottle;
+import org.example.expert.domain.auth.service.TokenIntrospectionService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -16,14 +25,41 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final SigninThrottle signinThrottle;
 
     @PostMapping("/auth/signup")
     public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
         return authService.signup(signupRequest);
     }
 
+    /**
+     * 실패가 누적된 이메일/IP 는 트랜잭션을 열기 전에 거절해, 제한된 요청이 DB 커넥션을 잡지 않도록 합니다.
+     * 프록시 뒤에서의 클라이언트 IP 는 server.tomcat.remoteip.internal-proxies 에 등록한 프록시가 보낸 X-Forwarded-For 로만 바뀝니다.
+     */
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        String clientIp = request.getRemoteAddr();
+        signinThrottle.checkAllowed(signinRequest.getEmail(), clientIp);
+        return authService.signin(signinRequest, clientIp);
+    }
+
+    @PostMapping("/auth/refresh")
+    public TokenRefreshResponse refresh(@Valid @RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        return authService.refresh(tokenRefreshRequest);
+    }
+
+    /**
+     * 호출자는 관리자 access token(Authorization) 이나 서비스 비밀값(X-Introspect-Secret) 으로 인증해야 합니다.
+     */
+    @PostMapping("/auth/introspect")
+    public TokenIntrospectionResponse introspect(
+            @Valid @RequestBody TokenIntrospectionRequest introspectionRequest,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestHeader(value = "X-Introspect-Secret", required = false) String introspectSecret,
+            HttpServletRequest request
+    ) {
+        return tokenIntrospectionService.introspect(introspectionRequest, authorization, introspectSecret,
+                request.getRemoteAddr());
     }
 }
@@ -0,0 +1,35 @@
+package org.example.expert.domain.auth.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.util.List;
+
+@Getter
+public class TokenIntrospectionResponse {
+
+    private final List<Result> results;
+
+    public TokenIntrospectionResponse(List<Result> results) {
+        this.results = results;
+    }
+
+    /**
+     * 요청한 순서대로 토큰마다 하나씩 담깁니다. active 가 아니면 userId, role 은 생략됩니다.
+     */
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+
+        private final String status;
+        private final Long userId;
+        private final UserRole role;
+
+        public Result(String status, Long userId, UserRole role) {
+            this.status = status;
+            this.userId = userId;
+            this.role = role;
+        }
+    }
+}
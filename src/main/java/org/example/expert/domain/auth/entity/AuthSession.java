@@ -0,0 +1,42 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.user.enums.UserRole;
+
+import java.time.Instant;
+
+/**
+ * session 모드에서 발급한 access token
+ * 메모리 세션 저장소에 없을 때(재시작, 다른 인스턴스에서 발급) 조회하는 용도이며, 토큰 원문 대신 SHA-256 해시를 키로 씁니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "auth_sessions")
+public class AuthSession {
+
+    @Id
+    @Column(length = 64)
+    private String tokenHash;
+    @Column(nullable = false)
+    private Long userId;
+    private String email;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private UserRole userRole;
+    @Column(nullable = false)
+    private Instant issuedAt;
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public AuthSession(String tokenHash, Long userId, String email, UserRole userRole, Instant issuedAt, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+}
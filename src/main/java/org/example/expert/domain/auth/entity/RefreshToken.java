@@ -0,0 +1,38 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+
+import java.time.Instant;
+
+/**
+ * 발급한 refresh token
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 보관합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "refresh_tokens")
+public class RefreshToken extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(unique = true, nullable = false, length = 64)
+    private String tokenHash;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public RefreshToken(String tokenHash, Long userId, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 토큰 폐기 시각
+ * revokedAt 이전에 발급된 해당 사용자의 access token 은 만료 전이라도 거부됩니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations")
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+    private Instant revokedAt;
+
+    public TokenRevocation(Long userId, Instant revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+}
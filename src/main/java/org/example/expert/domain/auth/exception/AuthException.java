@@ -1,5 +1,9 @@
 package org.example.expert.domain.auth.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
 public class AuthException extends RuntimeException {
 
     public AuthException(String message) {
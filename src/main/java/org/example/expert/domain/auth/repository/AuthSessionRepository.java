@@ -0,0 +1,18 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.AuthSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface AuthSessionRepository extends JpaRepository<AuthSession, String> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuthSession s WHERE s.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
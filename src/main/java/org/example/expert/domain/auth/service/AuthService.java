@@ -1,28 +1,39 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final SigninThrottle signinThrottle;
+    private final SessionTokenStore sessionTokenStore;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -43,22 +54,70 @@ public class AuthService {
         );
         User savedUser = userRepository.save(newUser);
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = createAccessToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = refreshTokenService.issue(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+    /**
+     * 로그인 시도 제한(SigninThrottle.checkAllowed)은 트랜잭션 밖인 AuthController 에서 먼저 확인합니다.
+     */
+    @Transactional
+    public SigninResponse signin(SigninRequest signinRequest, String clientIp) {
+        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(() -> {
+            signinThrottle.recordFailure(signinRequest.getEmail(), clientIp);
+            return new InvalidRequestException("가입되지 않은 유저입니다.");
+        });
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+            signinThrottle.recordFailure(signinRequest.getEmail(), clientIp);
             throw new AuthException("잘못된 비밀번호입니다.");
         }
+        signinThrottle.recordSuccess(signinRequest.getEmail());
+
+        // cost 가 올라간 뒤 처음 로그인한 사용자는 검증에 성공한 평문으로 다시 해시해 둡니다.
+        // 재해시는 부가 작업이라, bcrypt Executor 가 포화 상태면 건너뛰고 다음 로그인에서 다시 시도합니다.
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            try {
+                user.changePassword(passwordEncoder.encode(signinRequest.getPassword()));
+            } catch (ServiceUnavailableException e) {
+                log.debug("bcrypt 작업이 많아 비밀번호 재해시를 건너뜁니다. userId={}", user.getId());
+            }
+        }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = createAccessToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user.getId());
 
-        return new SigninResponse(bearerToken);
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    /**
+     * refresh token 으로 access token 을 다시 발급합니다.
+     * 비밀번호 검증(bcrypt) 없이 HMAC 서명 한 번으로 세션을 연장하고, refresh token 도 새로 교체합니다.
+     */
+    @Transactional
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Long userId = refreshTokenService.consume(tokenRefreshRequest.getRefreshToken());
+
+        // 역할이 바뀌었을 수 있으므로 현재 사용자 정보로 토큰을 만듭니다.
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
+        String bearerToken = createAccessToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
+
+    // auth.mode=session 이면 JWT 대신 세션 저장소에 등록한 불투명 토큰을 발급합니다.
+    // 비밀번호 변경 직후 로그인해도 새 토큰이 폐기 대상이 되지 않도록 발급 시각을 폐기 시각 이후로 맞춥니다.
+    private String createAccessToken(Long userId, String email, UserRole userRole) {
+        long issuedAtMillis = tokenRevocationService.issuedAtMillisFor(userId);
+        if (sessionTokenStore.isEnabled()) {
+            return BEARER_PREFIX + sessionTokenStore.create(userId, email, userRole, issuedAtMillis);
+        }
+        return jwtUtil.createToken(userId, email, userRole, issuedAtMillis);
     }
 }
@@ -0,0 +1,89 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.job.LeasedJobRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * refresh token 발급과 회전(rotation)
+ * 사용한 refresh token 은 즉시 삭제하고 새 토큰을 발급하므로, 같은 토큰은 한 번만 쓸 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final LeasedJobRunner leasedJobRunner;
+
+    @Value("${auth.refresh-token.ttl-days:14}")
+    private long ttlDays;
+
+    @Transactional
+    public String issue(Long userId) {
+        byte[] randomBytes = new byte[32];
+        SECURE_RANDOM.nextBytes(randomBytes);
+        String rawToken = BASE64_URL.encodeToString(randomBytes);
+
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), userId, Instant.now().plus(Duration.ofDays(ttlDays))));
+        return rawToken;
+    }
+
+    /**
+     * refresh token 을 사용 처리(삭제)하고 토큰 주인의 userId 를 반환합니다.
+     */
+    @Transactional
+    public Long consume(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new AuthException("유효하지 않은 refresh token 입니다."));
+
+        if (refreshToken.isExpired(Instant.now())) {
+            throw new AuthException("만료된 refresh token 입니다.");
+        }
+
+        // 동시에 같은 토큰으로 요청한 경우 먼저 삭제한 쪽만 성공합니다.
+        if (refreshTokenRepository.deleteByIdReturningCount(refreshToken.getId()) == 0) {
+            throw new AuthException("이미 사용된 refresh token 입니다.");
+        }
+        return refreshToken.getUserId();
+    }
+
+    @Transactional
+    public void revokeAll(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    @Scheduled(initialDelayString = "${auth.refresh-token.cleanup.initial-delay-ms:300000}",
+            fixedDelayString = "${auth.refresh-token.cleanup.interval-ms:3600000}")
+    public void scheduledCleanup() {
+        leasedJobRunner.runExclusively("refresh-token-cleanup", Duration.ofHours(2),
+                () -> refreshTokenRepository.deleteAllExpired(Instant.now()));
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.AuthSession;
+import org.example.expert.domain.auth.repository.AuthSessionRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.job.LeasedJobRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * auth.mode=session 일 때 JWT 대신 발급하는 불투명(opaque) 세션 토큰 저장소
+ *
+ * <p>토큰은 32바이트 난수이고, 요청마다 서명 검증 없이 메모리 맵 조회 한 번으로 사용자 정보를 찾습니다.
+ * auth.session.db-fallback 을 켜면 발급한 세션을 DB 에도 저장해 두고, 메모리에 없는 토큰(재시작, 다른 인스턴스)을
+ * DB 에서 찾아 메모리에 다시 올립니다. 끄면 인스턴스 재시작 시 세션이 모두 사라집니다.</p>
+ *
+ * <p>토큰 끝에는 난수에 대한 HMAC 태그(16바이트)를 붙여, 위조하거나 아무렇게나 만든 토큰은 맵이나 DB 를
+ * 조회하기 전에 거절합니다. 메모리 세션 수는 max-entries 로 제한하며, 넘으면 만료된 세션부터, 그다음 만료가
+ * 가장 가까운 세션 순으로 비우고 auth.session.evictions 로 집계합니다.
+ * (db-fallback 을 켜 두면 비워진 세션은 다음 요청에서 DB 로부터 다시 올라옵니다)</p>
+ */
+@Component
+public class SessionTokenStore {
+
+    public static final String MODE_JWT = "jwt";
+    public static final String MODE_SESSION = "session";
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_URL_DECODER = Base64.getUrlDecoder();
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int RANDOM_BYTES = 32;
+    private static final int TAG_BYTES = 16;
+    // base64url(48바이트) 는 패딩 없이 64자입니다.
+    private static final int TOKEN_LENGTH = 64;
+
+    private final AuthSessionRepository authSessionRepository;
+    private final LeasedJobRunner leasedJobRunner;
+    private final boolean enabled;
+    private final boolean databaseFallback;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ThreadLocal<Mac> macs;
+    private final Map<String, VerifiedToken> sessions = new ConcurrentHashMap<>();
+
+    private final Counter memoryHitCounter;
+    private final Counter forgedCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+    private final Counter expiredEvictionCounter;
+    private final Counter capacityEvictionCounter;
+
+    public SessionTokenStore(
+            AuthSessionRepository authSessionRepository,
+            LeasedJobRunner leasedJobRunner,
+            @Value("${auth.mode:" + MODE_JWT + "}") String authMode,
+            @Value("${auth.session.db-fallback:false}") boolean databaseFallback,
+            @Value("${auth.session.ttl-ms:" + JwtUtil.TOKEN_TIME + "}") long ttlMillis,
+            @Value("${auth.session.max-entries:200000}") int maxEntries,
+            @Value("${jwt.secret.key}") String secretKey,
+            MeterRegistry meterRegistry
+    ) {
+        if (!MODE_JWT.equals(authMode) && !MODE_SESSION.equals(authMode)) {
+            throw new IllegalArgumentException("auth.mode must be '" + MODE_JWT + "' or '" + MODE_SESSION + "': " + authMode);
+        }
+        this.authSessionRepository = authSessionRepository;
+        this.leasedJobRunner = leasedJobRunner;
+        this.enabled = MODE_SESSION.equals(authMode);
+        this.databaseFallback = databaseFallback;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        SecretKeySpec keySpec = new SecretKeySpec(Base64.getDecoder().decode(secretKey), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC 을 초기화할 수 없습니다.", e);
+            }
+        });
+
+        this.memoryHitCounter = Counter.builder("auth.session.lookups")
+                .tag("result", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder("auth.session.lookups")
+                .tag("result", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("auth.session.lookups")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.forgedCounter = Counter.builder("auth.session.lookups")
+                .description("HMAC 태그가 맞지 않아 조회 없이 거절한 토큰 수")
+                .tag("result", "forged")
+                .register(meterRegistry);
+        this.expiredEvictionCounter = Counter.builder("auth.session.evictions")
+                .tag("reason", "expired")
+                .register(meterRegistry);
+        this.capacityEvictionCounter = Counter.builder("auth.session.evictions")
+                .description("max-entries 를 넘어 만료 전에 메모리에서 비운 세션 수")
+                .tag("reason", "capacity")
+                .register(meterRegistry);
+        Gauge.builder("auth.session.active", sessions, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * JWT 는 '.' 으로 구분된 세 부분으로 되어 있고, 세션 토큰은 '.' 이 없는 base64url 문자열입니다.
+     */
+    public static boolean isSessionToken(String token) {
+        return token.indexOf('.') < 0;
+    }
+
+    public String create(Long userId, String email, UserRole userRole) {
+        return create(userId, email, userRole, System.currentTimeMillis());
+    }
+
+    public String create(Long userId, String email, UserRole userRole, long now) {
+        byte[] tokenBytes = new byte[RANDOM_BYTES + TAG_BYTES];
+        SECURE_RANDOM.nextBytes(tokenBytes);
+        System.arraycopy(tag(tokenBytes), 0, tokenBytes, RANDOM_BYTES, TAG_BYTES);
+        String token = BASE64_URL.encodeToString(tokenBytes);
+
+        VerifiedToken session = new VerifiedToken(userId, email, userRole, now, now + ttlMillis);
+        putSession(token, session);
+
+        if (databaseFallback) {
+            authSessionRepository.save(new AuthSession(hash(token), userId, email, userRole,
+                    Instant.ofEpochMilli(now), Instant.ofEpochMilli(now + ttlMillis)));
+        }
+        return token;
+    }
+
+    /**
+     * 유효한 세션이면 사용자 정보를, 없거나 만료되었으면 null 을 반환합니다.
+     */
+    public VerifiedToken resolve(String token) {
+        if (!hasValidTag(token)) {
+            forgedCounter.increment();
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        VerifiedToken session = sessions.get(token);
+        if (session != null) {
+            if (session.getExpiresAtMillis() > now) {
+                memoryHitCounter.increment();
+                return session;
+            }
+            sessions.remove(token, session);
+        }
+
+        if (databaseFallback) {
+            AuthSession stored = authSessionRepository.findById(hash(token)).orElse(null);
+            if (stored != null && stored.getExpiresAt().toEpochMilli() > now) {
+                session = new VerifiedToken(stored.getUserId(), stored.getEmail(), stored.getUserRole(),
+                        stored.getIssuedAt().toEpochMilli(), stored.getExpiresAt().toEpochMilli());
+                putSession(token, session);
+                databaseHitCounter.increment();
+                return session;
+            }
+        }
+
+        missCounter.increment();
+        return null;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    @Scheduled(initialDelayString = "${auth.session.cleanup.initial-delay-ms:60000}",
+            fixedDelayString = "${auth.session.cleanup.interval-ms:60000}")
+    public void evictExpired() {
+        if (!enabled) {
+            return;
+        }
+        removeExpired(System.currentTimeMillis());
+
+        if (databaseFallback) {
+            leasedJobRunner.runExclusively("auth-session-cleanup", Duration.ofMinutes(10),
+                    () -> authSessionRepository.deleteAllExpired(Instant.now()));
+        }
+    }
+
+    private void putSession(String token, VerifiedToken session) {
+        if (sessions.size() >= maxEntries) {
+            trim();
+        }
+        sessions.put(token, session);
+    }
+
+    // 한도에 닿으면 만료된 세션을 먼저 지우고, 그래도 넘치면 만료가 가장 가까운 세션부터 한도의 1/16 만큼 더 비워
+    // 매번 정리하지 않게 합니다. 정렬 비용은 한도의 1/16 번 발급마다 한 번만 듭니다.
+    private synchronized void trim() {
+        if (sessions.size() < maxEntries) {
+            return;
+        }
+        removeExpired(System.currentTimeMillis());
+
+        int target = maxEntries - Math.max(1, maxEntries / 16);
+        int toEvict = sessions.size() - target;
+        if (toEvict <= 0) {
+            return;
+        }
+
+        List<Map.Entry<String, VerifiedToken>> entries = new ArrayList<>(sessions.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().getExpiresAtMillis()));
+        int evicted = 0;
+        for (int i = 0; i < toEvict && i < entries.size(); i++) {
+            Map.Entry<String, VerifiedToken> entry = entries.get(i);
+            if (sessions.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        capacityEvictionCounter.increment(evicted);
+    }
+
+    private void removeExpired(long now) {
+        int expired = 0;
+        for (Iterator<VerifiedToken> iterator = sessions.values().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().getExpiresAtMillis() <= now) {
+                iterator.remove();
+                expired++;
+            }
+        }
+        expiredEvictionCounter.increment(expired);
+    }
+
+    private boolean hasValidTag(String token) {
+        if (token.length() != TOKEN_LENGTH) {
+            return false;
+        }
+        byte[] tokenBytes;
+        try {
+            tokenBytes = BASE64_URL_DECODER.decode(token);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        byte[] expected = tag(tokenBytes);
+        byte[] actual = new byte[TAG_BYTES];
+        System.arraycopy(tokenBytes, RANDOM_BYTES, actual, 0, TAG_BYTES);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    // 앞 32바이트(난수)에 대한 HMAC-SHA256 의 앞 16바이트
+    private byte[] tag(byte[] tokenBytes) {
+        Mac mac = macs.get();
+        mac.update(tokenBytes, 0, RANDOM_BYTES);
+        byte[] full = mac.doFinal();
+        byte[] tag = new byte[TAG_BYTES];
+        System.arraycopy(full, 0, tag, 0, TAG_BYTES);
+        return tag;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
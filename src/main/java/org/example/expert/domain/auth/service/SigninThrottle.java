@@ -0,0 +1,233 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 이메일과 클라이언트 IP 별 로그인 실패 횟수를 슬라이딩 윈도우로 세어, 한도를 넘은 시도는
+ * bcrypt 검증 전에 429 로 거절합니다.
+ *
+ * <p>키는 해시로 나눈 stripe 에 저장하고 stripe 단위로만 잠그므로 서로 다른 사용자의 로그인은 경합하지 않습니다.
+ * stripe 마다 최대 항목 수를 두어 오래 쓰지 않은 키부터 버리고, 윈도우가 지난 키는 주기적으로 정리합니다.</p>
+ */
+@Component
+public class SigninThrottle {
+
+    private static final String EMAIL_PREFIX = "e:";
+    private static final String IP_PREFIX = "ip:";
+
+    private final Stripe[] stripes;
+    private final long windowMillis;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final LongSupplier clock;
+
+    private final Counter emailBlockedCounter;
+    private final Counter ipBlockedCounter;
+
+    @Autowired
+    public SigninThrottle(
+            @Value("${auth.signin.throttle.window-ms:600000}") long windowMillis,
+            @Value("${auth.signin.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${auth.signin.throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+            @Value("${auth.signin.throttle.max-entries:100000}") int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this(windowMillis, maxFailuresPerEmail, maxFailuresPerIp, maxEntries, meterRegistry, System::currentTimeMillis);
+    }
+
+    SigninThrottle(long windowMillis, int maxFailuresPerEmail, int maxFailuresPerIp, int maxEntries,
+                   MeterRegistry meterRegistry, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.clock = clock;
+
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4) * 2 - 1);
+        int maxEntriesPerStripe = Math.max(1, maxEntries / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxEntriesPerStripe);
+        }
+
+        this.emailBlockedCounter = Counter.builder("auth.signin.throttled")
+                .tag("key", "email")
+                .register(meterRegistry);
+        this.ipBlockedCounter = Counter.builder("auth.signin.throttled")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.signin.throttle.entries", this, SigninThrottle::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이메일이나 IP 의 최근 실패 횟수가 한도에 도달했으면 TooManyRequestsException 을 던집니다.
+     */
+    public void checkAllowed(String email, String clientIp) {
+        long now = clock.getAsLong();
+        if (failures(emailKey(email), now) >= maxFailuresPerEmail) {
+            emailBlockedCounter.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (clientIp != null && failures(IP_PREFIX + clientIp, now) >= maxFailuresPerIp) {
+            ipBlockedCounter.increment();
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 이메일 없이 IP 만으로 판단합니다. 토큰 일괄 검증처럼 로그인 외의 인증 시도에 사용합니다.
+     */
+    public void checkAllowed(String clientIp) {
+        if (clientIp != null && failures(IP_PREFIX + clientIp, clock.getAsLong()) >= maxFailuresPerIp) {
+            ipBlockedCounter.increment();
+            throw new TooManyRequestsException("인증 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public void recordFailure(String clientIp) {
+        if (clientIp != null) {
+            increment(IP_PREFIX + clientIp, clock.getAsLong());
+        }
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = clock.getAsLong();
+        increment(emailKey(email), now);
+        if (clientIp != null) {
+            increment(IP_PREFIX + clientIp, now);
+        }
+    }
+
+    /**
+     * 로그인에 성공하면 해당 이메일의 실패 기록을 지웁니다. IP 기록은 같은 IP 의 다른 계정 시도를 위해 유지합니다.
+     */
+    public void recordSuccess(String email) {
+        String key = emailKey(email);
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.windows.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.signin.throttle.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Window> iterator = stripe.windows.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().isExpired(now, windowMillis)) {
+                        iterator.remove();
+                    }
+                }
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.windows.size();
+            }
+        }
+        return size;
+    }
+
+    private double failures(String key, long now) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Window window = stripe.windows.get(key);
+            return window == null ? 0 : window.estimate(now, windowMillis);
+        }
+    }
+
+    private void increment(String key, long now) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.windows.computeIfAbsent(key, k -> new Window(now)).increment(now, windowMillis);
+        }
+    }
+
+    private Stripe stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_PREFIX + email.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Stripe {
+
+        private final Map<String, Window> windows;
+
+        private Stripe(int maxEntries) {
+            // 접근 순서 LinkedHashMap 으로 가장 오래 쓰지 않은 키부터 버립니다.
+            this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+    }
+
+    /**
+     * 직전 구간과 현재 구간 두 개의 카운터로 슬라이딩 윈도우를 근사합니다.
+     * 직전 구간 횟수에 아직 윈도우 안에 남아 있는 비율을 곱해 현재 구간 횟수에 더합니다.
+     */
+    private static final class Window {
+
+        private long bucketStart;
+        private int previous;
+        private int current;
+
+        private Window(long now) {
+            this.bucketStart = now;
+        }
+
+        private void increment(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current++;
+        }
+
+        private double estimate(long now, long windowMillis) {
+            roll(now, windowMillis);
+            double remaining = 1.0 - (double) (now - bucketStart) / windowMillis;
+            return previous * remaining + current;
+        }
+
+        private boolean isExpired(long now, long windowMillis) {
+            return now - bucketStart >= 2 * windowMillis;
+        }
+
+        private void roll(long now, long windowMillis) {
+            long elapsed = now - bucketStart;
+            if (elapsed < windowMillis) {
+                return;
+            }
+            if (elapsed < 2 * windowMillis) {
+                previous = current;
+                bucketStart += windowMillis;
+            } else {
+                previous = 0;
+                bucketStart = now;
+            }
+            current = 0;
+        }
+    }
+}
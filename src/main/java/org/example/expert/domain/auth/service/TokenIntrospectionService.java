@@ -0,0 +1,117 @@
+package org.example.expert.domain.auth.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.config.TokenVerifier;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.dto.request.TokenIntrospectionRequest;
+import org.example.expert.domain.auth.dto.response.TokenIntrospectionResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이/사이드카가 여러 토큰을 한 번의 호출로 검증할 수 있게 합니다.
+ * 토큰마다 JwtFilter 와 같은 검증(서명, 만료, 세션, 폐기)을 수행하고 상태만 간단히 돌려줍니다.
+ *
+ * <p>훔친 토큰의 유효성을 확인하는 용도로 쓰이지 않도록 호출자도 인증합니다. (RFC 7662)
+ * 서비스용 비밀값(auth.introspect.client-secret, X-Introspect-Secret 헤더)이나 관리자 access token 이 필요하고,
+ * 호출자 인증에 실패한 IP 는 로그인과 같은 {@link SigninThrottle} 한도로 막습니다.</p>
+ */
+@Service
+public class TokenIntrospectionService {
+
+    public static final String ACTIVE = "active";
+    public static final String EXPIRED = "expired";
+    public static final String REVOKED = "revoked";
+    public static final String INVALID = "invalid";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier tokenVerifier;
+    private final SigninThrottle signinThrottle;
+    private final byte[] clientSecret;
+    private final int maxTokens;
+    private final DistributionSummary batchSizeSummary;
+
+    public TokenIntrospectionService(
+            TokenVerifier tokenVerifier,
+            SigninThrottle signinThrottle,
+            @Value("${auth.introspect.client-secret:}") String clientSecret,
+            @Value("${auth.introspect.max-tokens:100}") int maxTokens,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenVerifier = tokenVerifier;
+        this.signinThrottle = signinThrottle;
+        // 비워 두면 서비스 비밀값 인증은 사용하지 않고 관리자 토큰만 허용합니다.
+        this.clientSecret = clientSecret.isEmpty() ? null : clientSecret.getBytes(StandardCharsets.UTF_8);
+        this.maxTokens = maxTokens;
+        this.batchSizeSummary = DistributionSummary.builder("auth.introspect.batch.size")
+                .description("한 번에 검증 요청된 토큰 수")
+                .register(meterRegistry);
+    }
+
+    public TokenIntrospectionResponse introspect(TokenIntrospectionRequest introspectionRequest,
+                                                 String callerAuthorization, String callerSecret, String clientIp) {
+        signinThrottle.checkAllowed(clientIp);
+        if (!isAuthorizedCaller(callerAuthorization, callerSecret)) {
+            signinThrottle.recordFailure(clientIp);
+            throw new AuthException("토큰 검증 API 를 호출할 권한이 없습니다.");
+        }
+
+        List<String> tokens = introspectionRequest.getTokens();
+        if (tokens.size() > maxTokens) {
+            throw new InvalidRequestException("한 번에 검증할 수 있는 토큰은 최대 " + maxTokens + "개입니다.");
+        }
+        batchSizeSummary.record(tokens.size());
+
+        List<TokenIntrospectionResponse.Result> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            results.add(introspect(token));
+        }
+        return new TokenIntrospectionResponse(results);
+    }
+
+    private boolean isAuthorizedCaller(String callerAuthorization, String callerSecret) {
+        if (clientSecret != null && callerSecret != null) {
+            return MessageDigest.isEqual(clientSecret, callerSecret.getBytes(StandardCharsets.UTF_8));
+        }
+        if (callerAuthorization == null || !callerAuthorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        TokenIntrospectionResponse.Result caller = introspect(callerAuthorization);
+        return ACTIVE.equals(caller.getStatus()) && caller.getRole() == UserRole.ADMIN;
+    }
+
+    private TokenIntrospectionResponse.Result introspect(String token) {
+        if (token == null || token.isBlank()) {
+            return new TokenIntrospectionResponse.Result(INVALID, null, null);
+        }
+        String rawToken = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+
+        try {
+            VerifiedToken verifiedToken = tokenVerifier.verify(rawToken);
+            if (verifiedToken == null) {
+                return new TokenIntrospectionResponse.Result(INVALID, null, null);
+            }
+            if (tokenVerifier.isRevoked(verifiedToken)) {
+                return new TokenIntrospectionResponse.Result(REVOKED, null, null);
+            }
+            return new TokenIntrospectionResponse.Result(ACTIVE, verifiedToken.getUserId(), verifiedToken.getUserRole());
+        } catch (ExpiredJwtException e) {
+            return new TokenIntrospectionResponse.Result(EXPIRED, null, null);
+        } catch (JwtException | IllegalArgumentException e) {
+            // 서명 불일치, 형식 오류, 알 수 없는 claim 값 등은 모두 invalid 로 돌려줍니다.
+            return new TokenIntrospectionResponse.Result(INVALID, null, null);
+        }
+    }
+}
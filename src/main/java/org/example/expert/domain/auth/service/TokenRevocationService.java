@@ -0,0 +1,194 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.job.LeasedJobRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 역할 변경, 비밀번호 변경 시 이미 발급된 access token 을 폐기합니다.
+ *
+ * <p>폐기 기록은 (userId, 폐기 시각)으로 DB 에 남기고, 최근 기록을 메모리에 bloom filter 와 맵으로 올려 둡니다.
+ * 대부분의 요청(폐기되지 않은 사용자)은 bloom filter 에서 바로 걸러져 DB 나 맵 조회 없이 끝납니다.
+ * 다른 인스턴스에서 생긴 폐기 기록은 주기적인 재적재로 반영됩니다.</p>
+ *
+ * <p>JWT 의 iat 는 초 단위이므로 폐기 시각은 다음 초로 올려 저장하고, 폐기 이후 발급하는 토큰은
+ * {@link #issuedAtMillisFor(Long)} 로 발급 시각을 폐기 시각 이후로 맞춥니다.
+ * 그래서 폐기 직후 다시 로그인해 받은 토큰은 같은 초에 발급되었더라도 폐기되지 않습니다.</p>
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final LeasedJobRunner leasedJobRunner;
+    private final int expectedRevocations;
+
+    private final Counter bloomNegativeCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter revokedCounter;
+    private final Counter notRevokedCounter;
+
+    private volatile RevocationView view;
+
+    public TokenRevocationService(
+            TokenRevocationRepository tokenRevocationRepository,
+            LeasedJobRunner leasedJobRunner,
+            @Value("${auth.revocation.expected-revocations:10000}") int expectedRevocations,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.leasedJobRunner = leasedJobRunner;
+        this.expectedRevocations = expectedRevocations;
+        this.view = new RevocationView(Map.of(), expectedRevocations);
+
+        this.bloomNegativeCounter = Counter.builder("auth.revocation.checks")
+                .tag("result", "bloom_negative")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.revocation.checks")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        this.revokedCounter = Counter.builder("auth.revocation.checks")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+        this.notRevokedCounter = Counter.builder("auth.revocation.checks")
+                .tag("result", "not_revoked")
+                .register(meterRegistry);
+        Gauge.builder("auth.revocation.entries", this, service -> service.view.revokedAtByUser.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 사용자의 토큰 중 issuedAt 이 폐기 시각보다 이전인 토큰이면 true 를 반환합니다.
+     */
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        RevocationView current = view;
+        if (!current.bloomFilter.mightContain(userId)) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+
+        Long revokedAtMillis = current.revokedAtByUser.get(userId);
+        if (revokedAtMillis == null) {
+            falsePositiveCounter.increment();
+            return false;
+        }
+        if (issuedAtMillis < revokedAtMillis) {
+            revokedCounter.increment();
+            return true;
+        }
+        notRevokedCounter.increment();
+        return false;
+    }
+
+    /**
+     * 지금까지 발급된 해당 사용자의 토큰을 폐기합니다. 메모리 목록은 트랜잭션이 커밋된 뒤에 반영합니다.
+     */
+    @Transactional
+    public void revoke(Long userId) {
+        // 같은 초 안에서 폐기 전에 발급된 토큰(iat 는 초 단위)도 걸리도록 다음 초로 올립니다.
+        Instant revokedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        tokenRevocationRepository.save(new TokenRevocation(userId, revokedAt));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyLocally(userId, revokedAt.toEpochMilli());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyLocally(userId, revokedAt.toEpochMilli());
+            }
+        });
+    }
+
+    /**
+     * 새로 발급할 토큰의 발급 시각. 폐기 시각이 아직 오지 않았으면(같은 초 안) 폐기 시각을 사용합니다.
+     * 다른 인스턴스에서 폐기한 직후일 수 있으므로 DB 의 기록도 확인합니다.
+     */
+    public long issuedAtMillisFor(Long userId) {
+        long now = System.currentTimeMillis();
+        Long localRevokedAt = view.revokedAtByUser.get(userId);
+        long revokedAtMillis = localRevokedAt == null ? 0 : localRevokedAt;
+        if (revokedAtMillis <= now) {
+            revokedAtMillis = Math.max(revokedAtMillis, tokenRevocationRepository.findById(userId)
+                    .map(revocation -> revocation.getRevokedAt().toEpochMilli())
+                    .orElse(0L));
+        }
+        return Math.max(now, revokedAtMillis);
+    }
+
+    /**
+     * 아직 유효할 수 있는 토큰(최대 수명 이내)에 대한 폐기 기록만 다시 읽어 메모리 상태를 교체합니다.
+     * 조회 이후 이 인스턴스에서 커밋된 폐기처럼 스냅샷보다 최신인 메모리 기록은 유지합니다.
+     */
+    @Scheduled(initialDelayString = "${auth.revocation.reload-initial-delay-ms:0}",
+            fixedDelayString = "${auth.revocation.reload-interval-ms:30000}")
+    public void reload() {
+        try {
+            long oldestRelevantMillis = System.currentTimeMillis() - JwtUtil.TOKEN_TIME;
+            List<TokenRevocation> revocations =
+                    tokenRevocationRepository.findAllByRevokedAtAfter(Instant.ofEpochMilli(oldestRelevantMillis));
+
+            Map<Long, Long> revokedAtByUser = new ConcurrentHashMap<>();
+            for (TokenRevocation revocation : revocations) {
+                revokedAtByUser.put(revocation.getUserId(), revocation.getRevokedAt().toEpochMilli());
+            }
+            synchronized (this) {
+                view.revokedAtByUser.forEach((userId, revokedAtMillis) -> {
+                    if (revokedAtMillis > oldestRelevantMillis) {
+                        revokedAtByUser.merge(userId, revokedAtMillis, Math::max);
+                    }
+                });
+                view = new RevocationView(revokedAtByUser, Math.max(expectedRevocations, revokedAtByUser.size() * 2));
+            }
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 목록 재적재에 실패했습니다. 기존 목록을 유지합니다. cause={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${auth.revocation.cleanup.initial-delay-ms:300000}",
+            fixedDelayString = "${auth.revocation.cleanup.interval-ms:3600000}")
+    public void scheduledCleanup() {
+        leasedJobRunner.runExclusively("token-revocation-cleanup", Duration.ofHours(2),
+                () -> tokenRevocationRepository.deleteAllRevokedBefore(Instant.now().minusMillis(JwtUtil.TOKEN_TIME)));
+    }
+
+    // reload 가 목록을 교체하는 동안 들어온 기록이 이전 목록에만 남지 않도록 같은 잠금을 씁니다.
+    private synchronized void applyLocally(Long userId, long revokedAtMillis) {
+        RevocationView current = view;
+        current.revokedAtByUser.merge(userId, revokedAtMillis, Math::max);
+        current.bloomFilter.put(userId);
+    }
+
+    private static final class RevocationView {
+
+        private final Map<Long, Long> revokedAtByUser;
+        private final LongBloomFilter bloomFilter;
+
+        private RevocationView(Map<Long, Long> revokedAtByUser, int expectedInsertions) {
+            this.revokedAtByUser = new ConcurrentHashMap<>(revokedAtByUser);
+            this.bloomFilter = new LongBloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+            this.revokedAtByUser.keySet().forEach(bloomFilter::put);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package org.example.expert.domain.common.dto;
 
 import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.enums.UserRole;
 
+import java.util.Optional;
+import java.util.function.Function;
+
 @Getter
 public class AuthUser {
 
@@ -15,4 +19,16 @@ public class AuthUser {
         this.email = email;
         this.userRole = userRole;
     }
+
+    /**
+     * 압축 토큰이 이메일을 싣지 않으면(jwt.compact.include-email=false) emailLoader 로 DB 에서 읽어 옵니다.
+     * 예) authUser.resolveEmail(userRepository::findEmailById)
+     */
+    public String resolveEmail(Function<Long, Optional<String>> emailLoader) {
+        if (email != null) {
+            return email;
+        }
+        return emailLoader.apply(id)
+                .orElseThrow(() -> new InvalidRequestException("User not found"));
+    }
 }
@@ -1,5 +1,9 @@
 package org.example.expert.domain.common.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
 public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message) {
         super(message);
@@ -1,5 +1,9 @@
 package org.example.expert.domain.common.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
 public class ServerException extends RuntimeException {
 
     public ServerException(String message) {
@@ -0,0 +1,78 @@
+package org.example.expert.domain.metrics.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.aop.EndpointLatencyRecorder;
+import org.example.expert.aop.LatencyHistogram;
+import org.example.expert.config.AllocationRecorder;
+import org.example.expert.config.AuthFailureRecorder;
+import org.example.expert.domain.metrics.dto.response.AllocationMetricsResponse;
+import org.example.expert.domain.metrics.dto.response.AuthFailureMetricsResponse;
+import org.example.expert.domain.metrics.dto.response.EndpointLatencyResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class MetricsAdminController {
+
+    private final AuthFailureRecorder authFailureRecorder;
+    private final EndpointLatencyRecorder endpointLatencyRecorder;
+    private final AllocationRecorder allocationRecorder;
+
+    @GetMapping("/admin/metrics/auth-failures")
+    public ResponseEntity<AuthFailureMetricsResponse> getAuthFailures() {
+        return ResponseEntity.ok(new AuthFailureMetricsResponse(
+                authFailureRecorder.totals(),
+                authFailureRecorder.getLoggedCount(),
+                authFailureRecorder.getSuppressedCount()
+        ));
+    }
+
+    /**
+     * 애플리케이션 시작 후 핸들러별 지연 시간 백분위와 평균 처리량
+     */
+    @GetMapping("/admin/metrics/endpoints")
+    public ResponseEntity<List<EndpointLatencyResponse>> getEndpointLatencies() {
+        List<EndpointLatencyResponse> responses = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : endpointLatencyRecorder.snapshot().entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            responses.add(new EndpointLatencyResponse(
+                    entry.getKey(),
+                    histogram.getCount(),
+                    histogram.getThroughputPerSecond(),
+                    toMillis(histogram.getMeanMicros()),
+                    toMillis(histogram.valueAtPercentile(50)),
+                    toMillis(histogram.valueAtPercentile(99)),
+                    toMillis(histogram.valueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxMicros())
+            ));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 샘플링한 요청 기준 라우트별 요청당 힙 할당량 (평균이 큰 순서)
+     */
+    @GetMapping("/admin/metrics/allocations")
+    public ResponseEntity<List<AllocationMetricsResponse>> getAllocations() {
+        List<AllocationMetricsResponse> responses = allocationRecorder.snapshot().stream()
+                .map(allocation -> new AllocationMetricsResponse(
+                        allocation.getRoute(),
+                        allocation.getSamples(),
+                        (long) allocation.getMeanBytes(),
+                        allocation.getMaxBytes(),
+                        allocation.getTotalBytes()
+                ))
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    private static double toMillis(double micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.metrics.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class AllocationMetricsResponse {
+
+    private final String route;
+    private final long samples;
+    private final long meanBytes;
+    private final long maxBytes;
+    private final long totalBytes;
+
+    public AllocationMetricsResponse(String route, long samples, long meanBytes, long maxBytes, long totalBytes) {
+        this.route = route;
+        this.samples = samples;
+        this.meanBytes = meanBytes;
+        this.maxBytes = maxBytes;
+        this.totalBytes = totalBytes;
+    }
+}
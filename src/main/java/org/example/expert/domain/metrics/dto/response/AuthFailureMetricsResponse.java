@@ -0,0 +1,19 @@
+package org.example.expert.domain.metrics.dto.response;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class AuthFailureMetricsResponse {
+
+    private final Map<String, Long> failures;
+    private final long loggedCount;
+    private final long suppressedCount;
+
+    public AuthFailureMetricsResponse(Map<String, Long> failures, long loggedCount, long suppressedCount) {
+        this.failures = failures;
+        this.loggedCount = loggedCount;
+        this.suppressedCount = suppressedCount;
+    }
+}
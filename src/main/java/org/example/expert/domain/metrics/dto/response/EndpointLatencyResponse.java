@@ -0,0 +1,28 @@
+package org.example.expert.domain.metrics.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class EndpointLatencyResponse {
+
+    private final String handler;
+    private final long count;
+    private final double throughputPerSec;
+    private final double meanMs;
+    private final double p50Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maxMs;
+
+    public EndpointLatencyResponse(String handler, long count, double throughputPerSec, double meanMs,
+                                   double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+        this.handler = handler;
+        this.count = count;
+        this.throughputPerSec = throughputPerSec;
+        this.meanMs = meanMs;
+        this.p50Ms = p50Ms;
+        this.p99Ms = p99Ms;
+        this.p999Ms = p999Ms;
+        this.maxMs = maxMs;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -22,6 +23,8 @@ public class Todo extends Timestamped {
     private String title;
     private String contents;
     private String weather;
+    @Enumerated(EnumType.STRING)
+    private WeatherStatus weatherStatus;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -37,10 +40,20 @@ public class Todo extends Timestamped {
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = WeatherStatus.RESOLVED;
         this.user = user;
         this.managers.add(new Manager(user, this));
     }
 
+    /**
+     * 날씨 없이 먼저 저장하고, 날씨는 이후 비동기로 채워 넣는 일정을 생성합니다.
+     */
+    public static Todo withPendingWeather(String title, String contents, User user) {
+        Todo todo = new Todo(title, contents, null, user);
+        todo.weatherStatus = WeatherStatus.PENDING;
+        return todo;
+    }
+
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class TodoCreatedEvent {
+
+    private final Long todoId;
+    private final LocalDate createdDate;
+
+    public TodoCreatedEvent(Long todoId, LocalDate createdDate) {
+        this.todoId = todoId;
+        this.createdDate = createdDate;
+    }
+}
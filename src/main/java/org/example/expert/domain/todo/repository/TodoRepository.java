@@ -1,12 +1,16 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -20,4 +24,15 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    List<Todo> findByWeatherStatusOrderByIdAsc(WeatherStatus weatherStatus, Pageable pageable);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.weatherStatus = :resolved " +
+            "WHERE t.id = :todoId AND t.weatherStatus = :pending")
+    int resolvePendingWeather(@Param("todoId") Long todoId,
+                              @Param("weather") String weather,
+                              @Param("pending") WeatherStatus pending,
+                              @Param("resolved") WeatherStatus resolved);
 }
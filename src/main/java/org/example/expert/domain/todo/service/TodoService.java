@@ -8,15 +8,20 @@ import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,9 +29,16 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserRepository userRepository;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        if (todoWeatherEnricher.isAsyncEnabled()) {
+            return savePendingWeatherTodo(authUser, todoSaveRequest);
+        }
+
         User user = User.fromAuthUser(authUser);
 
         String weather = weatherClient.getTodayWeather();
@@ -44,7 +56,27 @@ public class TodoService {
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
                 weather,
-                new UserResponse(user.getId(), user.getEmail())
+                new UserResponse(user.getId(), authUser.resolveEmail(userRepository::findEmailById))
+        );
+    }
+
+    // 날씨는 커밋 이후 TodoWeatherEnricher 가 채워 넣으므로 응답의 weather 는 null 입니다.
+    private TodoSaveResponse savePendingWeatherTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Todo savedTodo = todoRepository.save(Todo.withPendingWeather(
+                todoSaveRequest.getTitle(),
+                todoSaveRequest.getContents(),
+                user
+        ));
+
+        eventPublisher.publishEvent(new TodoCreatedEvent(savedTodo.getId(), LocalDate.now()));
+
+        return new TodoSaveResponse(
+                savedTodo.getId(),
+                savedTodo.getTitle(),
+                savedTodo.getContents(),
+                null,
+                new UserResponse(user.getId(), authUser.resolveEmail(userRepository::findEmailById))
         );
     }
 
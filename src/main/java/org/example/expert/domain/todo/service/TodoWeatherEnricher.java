@@ -0,0 +1,97 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.job.LeasedJobRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 날씨 없이 저장된(PENDING) 일정에 날씨를 채워 넣는 백그라운드 작업
+ * 원격 호출은 트랜잭션 밖에서 수행하고, 결과만 짧은 UPDATE 로 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoWeatherEnricher {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final LeasedJobRunner leasedJobRunner;
+
+    @Value("${todo.weather.async-enrichment:false}")
+    private boolean asyncEnabled;
+
+    @Value("${todo.weather.backfill.batch-size:100}")
+    private int backfillBatchSize;
+
+    @Value("${todo.weather.backfill.lease-ms:120000}")
+    private long backfillLeaseMillis;
+
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    @Async("weatherEnrichmentExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoCreated(TodoCreatedEvent event) {
+        enrich(event.getTodoId(), event.getCreatedDate());
+    }
+
+    /**
+     * 이벤트 유실(재시작, 큐 포화, 날씨 조회 실패)로 PENDING 상태로 남은 일정을 주기적으로 다시 처리합니다.
+     * 여러 인스턴스 중 lease 를 가진 한 노드에서만 실행됩니다.
+     */
+    @Scheduled(initialDelayString = "${todo.weather.backfill.initial-delay-ms:60000}",
+            fixedDelayString = "${todo.weather.backfill.interval-ms:60000}")
+    public void scheduledBackfill() {
+        leasedJobRunner.runExclusively("todo-weather-backfill", Duration.ofMillis(backfillLeaseMillis),
+                this::backfillPendingWeather);
+    }
+
+    public void backfillPendingWeather() {
+        List<Todo> pendingTodos = todoRepository.findByWeatherStatusOrderByIdAsc(
+                WeatherStatus.PENDING, PageRequest.of(0, backfillBatchSize));
+
+        for (Todo todo : pendingTodos) {
+            LocalDate createdDate = todo.getCreatedAt() == null ? LocalDate.now() : todo.getCreatedAt().toLocalDate();
+            if (!enrich(todo.getId(), createdDate)) {
+                // 피드를 가져올 수 없는 상태(서킷 열림, 전송 오류)라면 남은 일정도 실패하므로 다음 주기로 넘깁니다.
+                return;
+            }
+        }
+    }
+
+    /**
+     * 피드에 해당 날짜가 없으면 요청 경로(WeatherClient.getTodayWeather)와 같은 기본값으로 확정해,
+     * 한 일정이 PENDING 으로 남아 뒤의 일정을 계속 막지 않게 합니다.
+     *
+     * @return 피드를 가져올 수 없어 보강하지 못했으면 false
+     */
+    private boolean enrich(Long todoId, LocalDate createdDate) {
+        String weather;
+        try {
+            weather = weatherClient.getWeatherOrFallback(createdDate);
+        } catch (RuntimeException e) {
+            log.warn("일정 날씨 보강에 실패했습니다. todoId={}, cause={}", todoId, e.getMessage());
+            return false;
+        }
+
+        todoRepository.resolvePendingWeather(todoId, weather, WeatherStatus.PENDING, WeatherStatus.RESOLVED);
+        return true;
+    }
+}
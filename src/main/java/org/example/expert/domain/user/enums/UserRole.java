@@ -5,7 +5,18 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import java.util.Arrays;
 
 public enum UserRole {
-    ADMIN, USER;
+    // code 는 compact JWT 의 "r" claim 에 들어가므로 바꾸지 않습니다.
+    ADMIN(1), USER(2);
+
+    private final int code;
+
+    UserRole(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 
     public static UserRole of(String role) {
         return Arrays.stream(UserRole.values())
@@ -13,4 +24,13 @@ public enum UserRole {
                 .findFirst()
                 .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
     }
+
+    public static UserRole ofCode(int code) {
+        for (UserRole role : values()) {
+            if (role.code == code) {
+                return role;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
+    }
 }
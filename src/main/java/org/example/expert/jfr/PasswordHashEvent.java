@@ -0,0 +1,22 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * bcrypt 해시/검증 한 번의 실행 (전용 Executor 스레드에서 기록되며 큐 대기 시간은 포함하지 않습니다)
+ */
+@Name("org.example.expert.PasswordHash")
+@Label("Password Hash")
+@Category({"Expert", "Auth"})
+@Threshold("0 ms")
+@StackTrace(false)
+public class PasswordHashEvent extends Event {
+
+    public static final EventType TYPE = EventType.getEventType(PasswordHashEvent.class);
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Cost")
+    public int cost;
+}
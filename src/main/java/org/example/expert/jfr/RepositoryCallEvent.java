@@ -0,0 +1,25 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Spring Data 리포지토리 메서드 한 번의 호출 (쿼리와 flush 포함)
+ */
+@Name("org.example.expert.RepositoryCall")
+@Label("Repository Call")
+@Category({"Expert", "Repository"})
+@Threshold("5 ms")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    public static final EventType TYPE = EventType.getEventType(RepositoryCallEvent.class);
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
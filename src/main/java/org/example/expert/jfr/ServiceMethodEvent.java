@@ -0,0 +1,25 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 도메인 서비스 public 메서드 한 번의 실행
+ */
+@Name("org.example.expert.ServiceMethod")
+@Label("Service Method")
+@Category({"Expert", "Service"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class ServiceMethodEvent extends Event {
+
+    public static final EventType TYPE = EventType.getEventType(ServiceMethodEvent.class);
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,19 @@
+package org.example.expert.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * 요청 경로의 오늘 날씨 조회 (스냅샷이 없으면 원격 호출 포함)
+ */
+@Name("org.example.expert.WeatherFetch")
+@Label("Weather Fetch")
+@Category({"Expert", "Outbound"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class WeatherFetchEvent extends Event {
+
+    public static final EventType TYPE = EventType.getEventType(WeatherFetchEvent.class);
+
+    @Label("Fallback Used")
+    public boolean fallbackUsed;
+}
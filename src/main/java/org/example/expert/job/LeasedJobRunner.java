@@ -0,0 +1,116 @@
+package org.example.expert.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.job.entity.JobLease;
+import org.example.expert.job.repository.JobLeaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스가 같은 DB 를 사용할 때 주기 작업을 한 노드에서만 실행시킵니다.
+ *
+ * <p>작업마다 job_leases 행 하나를 두고, 실행 전에 조건부 UPDATE 로 lease 를 가져오거나 연장합니다.
+ * lease 는 작업이 끝나도 반납하지 않으므로 leaseDuration 동안 다른 노드는 실행을 건너뛰고,
+ * owner 노드가 죽어 lease 가 만료되면 다음으로 스케줄이 도는 노드가 이어받습니다.
+ * leaseDuration 은 작업 주기보다 길고, 작업 한 번의 실행 시간보다 길게 잡아야 합니다.
+ * lease 시각은 모두 DB 시계로 계산하므로 노드의 로컬 시계는 쓰지 않으며, 초 단위로 올림합니다.</p>
+ */
+@Slf4j
+@Component
+public class LeasedJobRunner {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final MeterRegistry meterRegistry;
+    @Getter
+    private final String nodeId;
+
+    public LeasedJobRunner(
+            JobLeaseRepository jobLeaseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${job.node-id:}") String nodeId
+    ) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+    }
+
+    /**
+     * lease 를 얻은 경우에만 작업을 실행합니다.
+     *
+     * @return 작업을 실행했으면 true, 다른 노드가 lease 를 가지고 있어 건너뛰었으면 false
+     */
+    public boolean runExclusively(String jobName, Duration leaseDuration, Runnable job) {
+        if (!tryAcquire(jobName, leaseDuration)) {
+            Counter.builder("job.runs.skipped")
+                    .tag("job", jobName)
+                    .register(meterRegistry)
+                    .increment();
+            return false;
+        }
+
+        Timer.builder("job.run.duration")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .record(job);
+        return true;
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        // 종료 시 가지고 있던 lease 를 바로 만료시켜 다른 노드가 기다리지 않고 이어받게 합니다.
+        try {
+            jobLeaseRepository.releaseAll(nodeId);
+        } catch (RuntimeException e) {
+            log.warn("job lease 반납에 실패했습니다. nodeId={}, cause={}", nodeId, e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(String jobName, Duration leaseDuration) {
+        long leaseSeconds = Math.max(1, (leaseDuration.toMillis() + 999) / 1000);
+
+        String previousOwner = jobLeaseRepository.findById(jobName)
+                .map(JobLease::getOwner)
+                .orElse(null);
+
+        // 행을 처음 만든 노드도 같은 조건부 UPDATE 로 만료 시각을 DB 시계 기준으로 잡습니다.
+        // 그 사이에 다른 노드가 만료된 행을 먼저 가져갔다면 UPDATE 가 실패해 실행을 건너뜁니다.
+        if (previousOwner == null && !insertLease(jobName)) {
+            return false;
+        }
+        boolean acquired = jobLeaseRepository.tryAcquire(jobName, nodeId, leaseSeconds) == 1;
+
+        if (acquired && previousOwner != null && !previousOwner.equals(nodeId)) {
+            log.info("job lease 를 이어받았습니다. job={}, from={}, to={}", jobName, previousOwner, nodeId);
+            Counter.builder("job.lease.handoffs")
+                    .tag("job", jobName)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return acquired;
+    }
+
+    private boolean insertLease(String jobName) {
+        try {
+            return jobLeaseRepository.insertLease(jobName, nodeId, Instant.EPOCH) == 1;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 같은 순간에 먼저 만든 경우
+            return false;
+        }
+    }
+
+    private static String defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
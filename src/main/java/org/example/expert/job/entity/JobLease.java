@@ -0,0 +1,25 @@
+package org.example.expert.job.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 주기 작업의 실행 권한(lease)
+ * leasedUntil 까지는 owner 노드만 해당 작업을 실행할 수 있습니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "job_leases")
+public class JobLease {
+
+    @Id
+    private String jobName;
+    private String owner;
+    private Instant leasedUntil;
+}
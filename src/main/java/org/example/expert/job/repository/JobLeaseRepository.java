@@ -0,0 +1,44 @@
+package org.example.expert.job.repository;
+
+import org.example.expert.job.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * lease 가 만료되었거나 이미 owner 가 가진 경우에만 lease 를 가져오거나 연장합니다.
+     * 만료 판단과 새 만료 시각 모두 DB 시계(CURRENT_INSTANT)를 쓰므로 노드 간 시계 차이가 있어도
+     * 두 노드가 동시에 lease 를 가질 수 없습니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.owner = :owner, l.leasedUntil = CURRENT_INSTANT + (:leaseSeconds) SECOND " +
+            "WHERE l.jobName = :jobName AND (l.owner = :owner OR l.leasedUntil <= CURRENT_INSTANT)")
+    int tryAcquire(@Param("jobName") String jobName,
+                   @Param("owner") String owner,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 처음 실행되는 작업의 lease 행을 만듭니다. 다른 노드가 먼저 만들었다면 키 중복으로 실패합니다.
+     * 만료 시각은 tryAcquire 가 DB 시계로 채우므로, 여기서는 이미 만료된 시각을 넣습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_leases (job_name, owner, leased_until) VALUES (:jobName, :owner, :leasedUntil)",
+            nativeQuery = true)
+    int insertLease(@Param("jobName") String jobName,
+                    @Param("owner") String owner,
+                    @Param("leasedUntil") Instant leasedUntil);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE JobLease l SET l.leasedUntil = CURRENT_INSTANT " +
+            "WHERE l.owner = :owner AND l.leasedUntil > CURRENT_INSTANT")
+    int releaseAll(@Param("owner") String owner);
+}
@@ -1,5 +1,10 @@
 package org.example.expert.aop;
 
+import org.example.expert.config.GlobalExceptionHandler;
+import org.example.expert.domain.comment.controller.CommentAdminController;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.controller.UserAdminController;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.comment.service.CommentAdminService;
@@ -9,20 +14,29 @@ import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.domain.user.service.UserAdminService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -35,6 +49,9 @@ class AccessLogAspectTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -74,4 +91,56 @@ class AccessLogAspectTest {
         assertThat(output.getOut().contains("::: Comment ID : {}, Title : {}, Content : {}"));
         verify(commentRepository, times(1)).deleteById(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void 관리자_API_가_실패하면_GlobalExceptionHandler_와_같은_상태_코드로_기록한다() {
+        // given
+        AccessLogWriter accessLogWriter = mock(AccessLogWriter.class);
+        UserAdminController controller = adviseWithAccessLog(new UserAdminController(userAdminService), accessLogWriter);
+        given(userRepository.findById(anyLong())).willReturn(Optional.empty());
+        bindRequest("/admin/users/1", 7L);
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                controller.changeUserRole(1L, new UserRoleChangeRequest("user")));
+
+        // then
+        int expectedStatus = new GlobalExceptionHandler().invalidRequestExceptionException(exception)
+                .getStatusCode().value();
+        verify(accessLogWriter).append(eq(7L), anyLong(), eq("/admin/users/1"), eq(expectedStatus), anyLong());
+        assertEquals(400, expectedStatus);
+    }
+
+    @Test
+    public void 관리자_API_가_성공하면_200_으로_기록한다() {
+        // given
+        AccessLogWriter accessLogWriter = mock(AccessLogWriter.class);
+        CommentAdminController controller = adviseWithAccessLog(new CommentAdminController(commentAdminService),
+                accessLogWriter);
+        bindRequest("/admin/comments/1", 7L);
+
+        // when
+        controller.deleteComment(1L);
+
+        // then
+        verify(accessLogWriter).append(eq(7L), anyLong(), eq("/admin/comments/1"), eq(200), anyLong());
+    }
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static <T> T adviseWithAccessLog(T target, AccessLogWriter accessLogWriter) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AccessLogAspect(accessLogWriter));
+        return proxyFactory.getProxy();
+    }
+
+    private static void bindRequest(String uri, Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("PATCH", uri);
+        request.setAttribute("userId", userId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.aop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogBufferTest {
+
+    @Test
+    void 버퍼가_가득_차면_이벤트를_버리고_drop_을_센다() {
+        // given
+        AccessLogBuffer buffer = new AccessLogBuffer(4);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i, 1000L + i, "/admin/users/" + i, 200, 10);
+        }
+
+        // then
+        assertEquals(4, buffer.size());
+        assertEquals(4, buffer.getAcceptedCount());
+        assertEquals(2, buffer.getDroppedCount());
+    }
+
+    @Test
+    void 꺼낸_만큼_슬롯을_다시_쓸_수_있고_순서가_유지된다() {
+        // given
+        AccessLogBuffer buffer = new AccessLogBuffer(4);
+        List<String> drained = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            buffer.offer(i, 1000L + i, "/uri/" + i, 200, 10);
+        }
+
+        // when
+        buffer.drain((userId, epochMillis, uri, status, durationMicros) -> drained.add(uri), 2);
+        buffer.offer(4, 1004L, "/uri/4", 200, 10);
+        buffer.offer(5, 1005L, "/uri/5", 200, 10);
+        buffer.drain((userId, epochMillis, uri, status, durationMicros) -> drained.add(uri), 100);
+
+        // then
+        assertEquals(List.of("/uri/0", "/uri/1", "/uri/2", "/uri/3", "/uri/4", "/uri/5"), drained);
+        assertEquals(0, buffer.getDroppedCount());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void 여러_스레드가_동시에_넣어도_받아들인_이벤트는_모두_꺼낸다() throws Exception {
+        // given
+        AccessLogBuffer buffer = new AccessLogBuffer(1 << 16);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+
+        // when
+        for (int t = 0; t < 4; t++) {
+            long userId = t;
+            producers.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.offer(userId, i, "/uri", 200, i);
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        producers.shutdown();
+        long[] perUser = new long[4];
+        int drained = buffer.drain((userId, epochMillis, uri, status, durationMicros) -> perUser[(int) userId]++, Integer.MAX_VALUE);
+
+        // then
+        assertEquals(40_000, drained);
+        for (long count : perUser) {
+            assertEquals(10_000, count);
+        }
+    }
+}
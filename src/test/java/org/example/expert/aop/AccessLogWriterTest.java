@@ -0,0 +1,138 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.audit.store.AuditStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AccessLogWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 접근_로그를_날짜별_JSON_lines_파일로_쓴다() throws Exception {
+        // given
+        AccessLogWriter writer = new AccessLogWriter(16, directory.toString(), "access", 1 << 20, 100, 10,
+                auditStore(), new SimpleMeterRegistry());
+        long epochMillis = Instant.parse("2024-03-01T10:15:30.123Z").toEpochMilli();
+        writer.append(1L, epochMillis, "/admin/users/1", 200, 1500);
+        writer.append(null, epochMillis, "/admin/comments/\"2\"", 400, 20);
+
+        // when
+        int written = writer.drainOnce();
+
+        // then
+        assertEquals(2, written);
+        List<String> lines = Files.readAllLines(directory.resolve("access-2024-03-01.jsonl"));
+        assertEquals("{\"ts\":\"2024-03-01T10:15:30.123Z\",\"userId\":1,\"uri\":\"/admin/users/1\",\"status\":200,\"durationUs\":1500}",
+                lines.get(0));
+        assertEquals("{\"ts\":\"2024-03-01T10:15:30.123Z\",\"userId\":null,\"uri\":\"/admin/comments/\\\"2\\\"\",\"status\":400,\"durationUs\":20}",
+                lines.get(1));
+    }
+
+    @Test
+    void 파일이_최대_크기를_넘으면_번호를_붙인_새_파일로_넘어간다() throws Exception {
+        // given
+        AccessLogWriter writer = new AccessLogWriter(16, directory.toString(), "access", 150, 1, 10,
+                auditStore(), new SimpleMeterRegistry());
+        long epochMillis = Instant.parse("2024-03-01T00:00:00Z").toEpochMilli();
+        for (int i = 0; i < 3; i++) {
+            writer.append(1L, epochMillis, "/admin/users/1", 200, 10);
+        }
+
+        // when
+        while (writer.drainOnce() > 0) {
+            // 한 건씩 씀
+        }
+
+        // then
+        assertEquals(2, Files.readAllLines(directory.resolve("access-2024-03-01.jsonl")).size());
+        assertEquals(1, Files.readAllLines(directory.resolve("access-2024-03-01.1.jsonl")).size());
+    }
+
+    @Test
+    void 감사_저장소가_한_번_실패해도_기록_스레드는_계속_기록한다() throws Exception {
+        // given
+        AuditStore auditStore = mock(AuditStore.class);
+        willThrow(new IllegalStateException("audit down")).willDoNothing()
+                .given(auditStore).append(any(), anyLong(), anyString(), anyInt(), anyLong());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccessLogWriter writer = new AccessLogWriter(16, directory.toString(), "access", 1 << 20, 100, 1,
+                auditStore, meterRegistry);
+        long epochMillis = Instant.parse("2024-03-01T00:00:00Z").toEpochMilli();
+        writer.start();
+
+        // when
+        writer.append(1L, epochMillis, "/admin/users/1", 200, 10);
+        awaitEmpty(writer);
+        writer.append(2L, epochMillis, "/admin/users/2", 200, 10);
+        writer.stop();
+
+        // then
+        verify(auditStore).append(2L, epochMillis, "/admin/users/2", 200, 10);
+        assertEquals(1.0, meterRegistry.get("access.log.write.errors").tag("sink", "audit").counter().count());
+        assertEquals(0.0, meterRegistry.get("access.log.write.errors").tag("sink", "file").counter().count());
+        assertEquals(2, Files.readAllLines(directory.resolve("access-2024-03-01.jsonl")).size());
+    }
+
+    @Test
+    void 감사_저장소가_멈춰도_파일_기록은_계속된다() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        AuditStore auditStore = mock(AuditStore.class);
+        willAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .given(auditStore).append(any(), anyLong(), anyString(), anyInt(), anyLong());
+        AccessLogWriter writer = new AccessLogWriter(16, directory.toString(), "access", 1 << 20, 100, 1,
+                auditStore, new SimpleMeterRegistry());
+        long epochMillis = Instant.parse("2024-03-01T00:00:00Z").toEpochMilli();
+        writer.start();
+
+        // when
+        writer.append(1L, epochMillis, "/admin/users/1", 200, 10);
+
+        // then
+        assertEquals(1, awaitLines(directory.resolve("access-2024-03-01.jsonl"), 1));
+        release.countDown();
+        writer.stop();
+    }
+
+    private static void awaitEmpty(AccessLogWriter writer) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writer.getBuffer().size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static int awaitLines(Path file, int expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(file) && Files.readAllLines(file).size() >= expected) {
+                break;
+            }
+            Thread.sleep(5);
+        }
+        return Files.exists(file) ? Files.readAllLines(file).size() : 0;
+    }
+
+    private AuditStore auditStore() {
+        return new AuditStore(directory.resolve("audit").toString(), 16, 2);
+    }
+}
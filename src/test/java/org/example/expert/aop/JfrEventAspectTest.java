@@ -0,0 +1,140 @@
+package org.example.expert.aop;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.RefreshTokenService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(SpringExtension.class)
+class JfrEventAspectTest {
+
+    private static final String SERVICE_METHOD = "org.example.expert.ServiceMethod";
+    private static final String REPOSITORY_CALL = "org.example.expert.RepositoryCall";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @TempDir
+    Path directory;
+
+    private Recording recording;
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        JfrEventAspect aspect = new JfrEventAspect();
+        UserRepository repositoryProxy = proxy(userRepository, aspect);
+        userService = proxy(new UserService(repositoryProxy, passwordEncoder, tokenRevocationService, refreshTokenService), aspect);
+
+        // 테스트 호출은 임계값보다 빠르므로 임계값을 0 으로 내려 모든 호출을 남깁니다.
+        recording = new Recording();
+        recording.enable(SERVICE_METHOD).withThreshold(Duration.ZERO);
+        recording.enable(REPOSITORY_CALL).withThreshold(Duration.ZERO);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void 성공한_호출은_서비스와_리포지토리_이벤트를_남긴다() throws Exception {
+        // given
+        User user = new User("test@naver.com", "Password1234", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        userService.getUser(1L);
+
+        // then
+        List<RecordedEvent> events = stopAndRead();
+        RecordedEvent service = single(events, SERVICE_METHOD);
+        assertEquals("UserService", service.getString("service"));
+        assertEquals("getUser", service.getString("method"));
+        assertFalse(service.getBoolean("failed"));
+
+        RecordedEvent repository = single(events, REPOSITORY_CALL);
+        assertEquals("UserRepository", repository.getString("repository"));
+        assertEquals("findById", repository.getString("method"));
+        assertFalse(repository.getBoolean("failed"));
+    }
+
+    @Test
+    void 예외로_끝난_호출은_실패로_남긴다() throws Exception {
+        // given
+        given(userRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        assertThrows(InvalidRequestException.class, () -> userService.getUser(1L));
+
+        // then
+        List<RecordedEvent> events = stopAndRead();
+        RecordedEvent service = single(events, SERVICE_METHOD);
+        assertEquals("UserService", service.getString("service"));
+        assertEquals("getUser", service.getString("method"));
+        assertTrue(service.getBoolean("failed"));
+
+        // 리포지토리 호출 자체는 빈 결과로 정상 반환했습니다.
+        assertFalse(single(events, REPOSITORY_CALL).getBoolean("failed"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, JfrEventAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return (T) factory.getProxy();
+    }
+
+    private List<RecordedEvent> stopAndRead() throws Exception {
+        recording.stop();
+        Path file = directory.resolve("aspect.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matched = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matched.size());
+        return matched.get(0);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.aop;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 버킷_상한값은_해당_값을_포함하고_상대_오차는_3퍼센트_이내다() {
+        for (long value = 0; value < 10_000_000; value = value * 2 + 1) {
+            for (long v : new long[]{value, value + 7, value * 3 / 2}) {
+                long upperBound = LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(v));
+                assertTrue(upperBound >= v, "value=" + v);
+                assertTrue(upperBound - v <= Math.max(1, v / 32), "value=" + v);
+            }
+        }
+    }
+
+    @Test
+    void 백분위_값을_계산한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros);
+        }
+        histogram.record(5_000_000);
+
+        // when & then
+        assertEquals(1001, histogram.getCount());
+        assertEquals(500, histogram.valueAtPercentile(50), 500 / 32.0);
+        assertEquals(990, histogram.valueAtPercentile(99), 990 / 32.0);
+        assertEquals(1000, histogram.valueAtPercentile(99.9), 1000 / 32.0);
+        assertEquals(5_000_000, histogram.valueAtPercentile(100), 5_000_000 / 32.0);
+        assertEquals(5_000_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    void 기록이_없으면_0_을_반환한다() {
+        assertEquals(0, new LatencyHistogram().valueAtPercentile(99));
+    }
+}
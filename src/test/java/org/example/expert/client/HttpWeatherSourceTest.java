@@ -0,0 +1,68 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpWeatherSourceTest {
+
+    private StubWeatherServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private HttpWeatherSource weatherSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubWeatherServer("[{\"date\":\"03-15\",\"weather\":\"Sunny\"}]");
+        meterRegistry = new SimpleMeterRegistry();
+        weatherSource = new HttpWeatherSource(new RestTemplateBuilder(), server.getBaseUrl(), 1000, 1000, 2, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        weatherSource.close();
+        server.close();
+    }
+
+    @Test
+    void 대역_서버의_날씨_피드를_읽는다() {
+        // when
+        WeatherSnapshot snapshot = new WeatherSnapshot(weatherSource.load(), Instant.now());
+
+        // then
+        assertEquals("Sunny", snapshot.findWeather(LocalDate.of(2024, 3, 15)));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void 피드가_바뀌지_않았으면_304_응답으로_이전_결과를_재사용한다() {
+        // given
+        server.useETag("\"v1\"");
+        String[] first = weatherSource.load();
+
+        // when
+        String[] second = weatherSource.load();
+
+        // then
+        assertSame(first, second);
+        assertEquals(2, server.getRequestCount());
+        assertEquals(1, server.getNotModifiedCount());
+        assertEquals(0.5, meterRegistry.get("weather.http.not-modified.ratio").gauge().value());
+    }
+
+    @Test
+    void 서버_오류면_예외_발생() {
+        // given
+        server.respondWith(500, "");
+
+        // when & then
+        assertThrows(HttpServerErrorException.class, () -> weatherSource.load());
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedFileWeatherSourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 로컬_파일을_읽고_바뀌지_않았으면_이전_결과를_재사용한다() throws Exception {
+        // given
+        Path file = tempDir.resolve("weather.json");
+        Files.writeString(file, "[{\"date\":\"07-01\",\"weather\":\"Rainy\"}]");
+        MappedFileWeatherSource weatherSource = new MappedFileWeatherSource(file);
+
+        // when
+        String[] first = weatherSource.load();
+        String[] second = weatherSource.load();
+
+        // then
+        assertSame(first, second);
+        assertEquals("Rainy", new WeatherSnapshot(first, Instant.now()).findWeather(LocalDate.of(2024, 7, 1)));
+    }
+
+    @Test
+    void 파일이_바뀌면_다시_읽는다() throws Exception {
+        // given
+        Path file = tempDir.resolve("weather.json");
+        Files.writeString(file, "[{\"date\":\"07-01\",\"weather\":\"Rainy\"}]");
+        MappedFileWeatherSource weatherSource = new MappedFileWeatherSource(file);
+        weatherSource.load();
+
+        // when
+        Files.writeString(file, "[{\"date\":\"07-01\",\"weather\":\"Sunny\"}]");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+        String[] reloaded = weatherSource.load();
+
+        // then
+        assertEquals("Sunny", new WeatherSnapshot(reloaded, Instant.now()).findWeather(LocalDate.of(2024, 7, 1)));
+    }
+
+    @Test
+    void 파일이_없으면_예외_발생() {
+        // given
+        MappedFileWeatherSource weatherSource = new MappedFileWeatherSource(tempDir.resolve("missing.json"));
+
+        // when & then
+        assertThrows(ServerException.class, weatherSource::load);
+    }
+}
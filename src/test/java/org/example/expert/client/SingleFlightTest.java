@@ -0,0 +1,91 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void 동시_호출은_한_번만_실행되고_결과를_공유한다() throws Exception {
+        // given
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = runConcurrently(singleFlight, () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "Sunny";
+        }, release);
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("Sunny", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(CALLERS - 1, singleFlight.getCoalescedCount());
+    }
+
+    @Test
+    void 실패도_대기중인_호출에게_함께_전달된다() throws Exception {
+        // given
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> results = runConcurrently(singleFlight, () -> {
+            await(release);
+            throw new IllegalStateException("upstream down");
+        }, release);
+
+        // then
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+        assertEquals(1, singleFlight.getExecutedCount());
+    }
+
+    private List<Future<String>> runConcurrently(SingleFlight<String> singleFlight,
+                                                 Supplier<String> call,
+                                                 CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(call)));
+            // 첫 호출이 실행을 시작한 뒤 나머지 호출이 합류하도록 기다립니다.
+            while (singleFlight.getExecutedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(call)));
+            }
+            while (singleFlight.getCoalescedCount() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 날씨 API 대역 서버
+ * 외부 네트워크 없이 /f-api/weather.json 을 고정된 본문으로 응답합니다.
+ */
+public class StubWeatherServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private volatile byte[] body;
+    private volatile int status = 200;
+    private volatile String eTag;
+
+    public StubWeatherServer(String body) throws IOException {
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            String currentETag = this.eTag;
+            if (currentETag != null && currentETag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            byte[] responseBody = this.body;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (currentETag != null) {
+                exchange.getResponseHeaders().set("ETag", currentETag);
+            }
+            exchange.sendResponseHeaders(status, responseBody.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(responseBody);
+            }
+        });
+        this.server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    public void respondWith(int status, String body) {
+        this.status = status;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * ETag 를 지정하면 같은 If-None-Match 요청에 304 로 응답합니다.
+     */
+    public void useETag(String eTag) {
+        this.eTag = eTag;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherCallGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 연속_실패가_임계치에_도달하면_서킷이_열리고_호출하지_않는다() {
+        // given
+        WeatherCallGuard guard = new WeatherCallGuard(2, 60_000, 4, 0, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.execute(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }));
+        }
+        ServerException exception = assertThrows(ServerException.class, () -> guard.execute(calls::incrementAndGet));
+
+        // then
+        assertEquals(WeatherCallGuard.State.OPEN, guard.getState());
+        assertEquals(2, calls.get());
+        assertEquals("날씨 API 서킷이 열려 있어 호출하지 않았습니다.", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("weather.calls.rejected").tag("reason", "circuit_open").counter().count());
+    }
+
+    @Test
+    void 열림_시간이_지나면_시험_호출이_성공해_서킷이_닫힌다() {
+        // given
+        WeatherCallGuard guard = new WeatherCallGuard(1, 0, 4, 0, meterRegistry);
+        assertThrows(IllegalStateException.class, () -> guard.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        // when
+        String result = guard.execute(() -> "Sunny");
+
+        // then
+        assertEquals("Sunny", result);
+        assertEquals(WeatherCallGuard.State.CLOSED, guard.getState());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.transitions").tag("state", "half_open").counter().count());
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_즉시_거절한다() throws Exception {
+        // given
+        WeatherCallGuard guard = new WeatherCallGuard(5, 60_000, 1, 0, meterRegistry);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> guard.execute(() -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "Sunny";
+        }));
+        holder.start();
+        entered.await();
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> guard.execute(() -> "Rainy"));
+        release.countDown();
+        holder.join();
+
+        // then
+        assertEquals("날씨 API 동시 호출 한도를 초과했습니다.", exception.getMessage());
+        assertEquals(WeatherCallGuard.State.CLOSED, guard.getState());
+    }
+}
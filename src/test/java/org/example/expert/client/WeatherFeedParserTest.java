@@ -0,0 +1,62 @@
+package org.example.expert.client;
+
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherFeedParserTest {
+
+    @Test
+    void 날짜별_날씨를_슬롯에_담고_중복_날짜는_처음_값을_사용한다() throws Exception {
+        // given
+        byte[] feed = ("[{\"date\":\"01-01\",\"weather\":\"Sunny\"}," +
+                "{\"weather\":\"Snowy\",\"date\":\"02-29\",\"extra\":{\"a\":1}}," +
+                "{\"date\":\"12-31\",\"weather\":\"Cloudy\"}," +
+                "{\"date\":\"01-01\",\"weather\":\"Rainy\"}]").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        WeatherSnapshot snapshot = new WeatherSnapshot(WeatherFeedParser.parse(feed), Instant.now());
+
+        // then
+        assertEquals("Sunny", snapshot.findWeather(LocalDate.of(2023, 1, 1)));
+        assertEquals("Snowy", snapshot.findWeather(LocalDate.of(2024, 2, 29)));
+        assertEquals("Cloudy", snapshot.findWeather(LocalDate.of(2023, 12, 31)));
+        assertNull(snapshot.findWeather(LocalDate.of(2023, 6, 1)));
+    }
+
+    @Test
+    void 유효한_날짜가_하나도_없으면_예외_발생() {
+        // given
+        byte[] feed = "[{\"date\":\"13-01\",\"weather\":\"Sunny\"},{\"date\":\"2-1\",\"weather\":\"Rainy\"}]"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        ServerException exception = assertThrows(ServerException.class, () -> WeatherFeedParser.parse(feed));
+
+        // then
+        assertEquals("날씨 데이터가 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 문자열이_아닌_date_weather_값은_건너뛰고_다음_항목을_읽는다() throws Exception {
+        // given
+        byte[] feed = ("[{\"date\":{\"month\":1,\"day\":1},\"weather\":\"Sunny\"}," +
+                "{\"date\":\"01-02\",\"weather\":[\"Rainy\",{\"x\":1}]}," +
+                "{\"date\":\"01-03\",\"weather\":null}," +
+                "{\"date\":\"01-04\",\"weather\":\"Cloudy\"}]").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        WeatherSnapshot snapshot = new WeatherSnapshot(WeatherFeedParser.parse(feed), Instant.now());
+
+        // then
+        assertNull(snapshot.findWeather(LocalDate.of(2023, 1, 1)));
+        assertNull(snapshot.findWeather(LocalDate.of(2023, 1, 2)));
+        assertNull(snapshot.findWeather(LocalDate.of(2023, 1, 3)));
+        assertEquals("Cloudy", snapshot.findWeather(LocalDate.of(2023, 1, 4)));
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTrackingFilterTest {
+
+    @Test
+    void 매칭된_URL_패턴별로_요청_스레드의_할당량을_기록한다() throws Exception {
+        // given
+        AllocationRecorder recorder = new AllocationRecorder(true, 1, 5, 200, new SimpleMeterRegistry());
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(recorder);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/1");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{todoId}");
+            req.setAttribute("payload", new byte[1 << 20]);
+        });
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        List<AllocationRecorder.RouteAllocation> snapshot = recorder.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals("GET /todos/{todoId}", snapshot.get(0).getRoute());
+        assertEquals(1, snapshot.get(0).getSamples());
+        assertTrue(snapshot.get(0).getMaxBytes() >= 1 << 20);
+        assertEquals("GET " + AllocationTrackingFilter.UNMATCHED_ROUTE, snapshot.get(1).getRoute());
+    }
+
+    @Test
+    void 표준이_아닌_메서드와_한도를_넘은_라우트는_하나로_묶는다() throws Exception {
+        // given
+        AllocationRecorder recorder = new AllocationRecorder(true, 1, 5, 2, new SimpleMeterRegistry());
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(recorder);
+
+        // when
+        for (String method : new String[]{"FOO", "BAR", "GET", "POST", "PUT"}) {
+            filter.doFilter(new MockHttpServletRequest(method, "/x"), new MockHttpServletResponse(), (req, res) -> {
+            });
+        }
+
+        // then
+        List<String> routes = recorder.snapshot().stream().map(AllocationRecorder.RouteAllocation::getRoute).toList();
+        assertEquals(3, routes.size());
+        assertTrue(routes.contains(AllocationTrackingFilter.OTHER_METHOD + " " + AllocationTrackingFilter.UNMATCHED_ROUTE));
+        assertTrue(routes.contains(AllocationRecorder.OVERFLOW_ROUTE));
+    }
+
+    @Test
+    void 비활성화하면_측정하지_않는다() throws Exception {
+        // given
+        AllocationRecorder recorder = new AllocationRecorder(false, 1, 5, 200, new SimpleMeterRegistry());
+        AllocationTrackingFilter filter = new AllocationTrackingFilter(recorder);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        // then
+        assertFalse(recorder.shouldSample());
+        assertTrue(recorder.snapshot().isEmpty());
+    }
+}
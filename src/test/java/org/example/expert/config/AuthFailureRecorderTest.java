@@ -0,0 +1,53 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(OutputCaptureExtension.class)
+class AuthFailureRecorderTest {
+
+    @Test
+    void 실패는_모두_집계하고_로그는_초당_한도까지만_남긴다(CapturedOutput output) {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuthFailureRecorder recorder = new AuthFailureRecorder(1, 2, meterRegistry);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            recorder.record(AuthFailureType.EXPIRED, "JWT expired");
+        }
+        recorder.record(AuthFailureType.MISSING_TOKEN, "/todos");
+
+        // then
+        assertEquals(5L, recorder.totals().get("expired"));
+        assertEquals(1L, recorder.totals().get("missing_token"));
+        assertEquals(6.0, meterRegistry.get("auth.failures").tag("type", "expired").functionCounter().count()
+                + meterRegistry.get("auth.failures").tag("type", "missing_token").functionCounter().count());
+        assertThat(recorder.getLoggedCount()).isLessThanOrEqualTo(4);
+        assertEquals(6, recorder.getLoggedCount() + recorder.getSuppressedCount());
+        assertThat(output.getOut()).doesNotContain("at org.example");
+    }
+
+    @Test
+    void 요약_로그는_직전_요약_이후_증가분만_남긴다(CapturedOutput output) {
+        // given
+        AuthFailureRecorder recorder = new AuthFailureRecorder(100, 0, new SimpleMeterRegistry());
+        recorder.record(AuthFailureType.REVOKED, "userId=1");
+        recorder.record(AuthFailureType.REVOKED, "userId=1");
+
+        // when
+        recorder.logSummary();
+        recorder.logSummary();
+
+        // then
+        assertThat(output.getOut()).contains("{revoked=2}");
+        assertEquals(1, output.getOut().split("\\{revoked=", -1).length - 1);
+        assertEquals(0, recorder.getLoggedCount());
+    }
+}
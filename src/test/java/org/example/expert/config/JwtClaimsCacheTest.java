@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtClaimsCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 검증된_토큰은_만료_전까지_캐시에서_조회된다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(true, 10, meterRegistry);
+        VerifiedToken verifiedToken = verifiedToken(System.currentTimeMillis() + 60_000);
+        cache.put("token", verifiedToken);
+
+        // when
+        VerifiedToken cached = cache.get("token");
+        VerifiedToken other = cache.get("other-token");
+
+        // then
+        assertSame(verifiedToken, cached);
+        assertNull(other);
+        assertEquals(1.0, meterRegistry.get("jwt.claims.cache").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("jwt.claims.cache").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_제거된다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(true, 10, meterRegistry);
+        cache.put("token", verifiedToken(System.currentTimeMillis() - 1));
+
+        // when
+        VerifiedToken cached = cache.get("token");
+
+        // then
+        assertNull(cached);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 가득_차면_새_토큰은_저장하지_않는다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(true, 1, meterRegistry);
+        cache.put("first", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // when
+        cache.put("second", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // then
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+    }
+
+    @Test
+    void 가득_찼을_때_만료된_항목은_정리하고_새_토큰을_저장한다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(true, 2, meterRegistry);
+        cache.put("expired-1", verifiedToken(System.currentTimeMillis() - 1));
+        cache.put("expired-2", verifiedToken(System.currentTimeMillis() - 1));
+
+        // when
+        cache.put("fresh", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // then
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("fresh"));
+    }
+
+    @Test
+    void 주기적인_정리로_만료된_항목을_지운다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(true, 10, meterRegistry);
+        cache.put("expired", verifiedToken(System.currentTimeMillis() - 1));
+        cache.put("fresh", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // when
+        cache.evictExpired();
+
+        // then
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 비활성화하면_저장하지_않는다() {
+        // given
+        JwtClaimsCache cache = new JwtClaimsCache(false, 10, meterRegistry);
+
+        // when
+        cache.put("token", verifiedToken(System.currentTimeMillis() + 60_000));
+
+        // then
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    private VerifiedToken verifiedToken(long expiresAtMillis) {
+        return new VerifiedToken(1L, "user@example.com", UserRole.USER, System.currentTimeMillis(), expiresAtMillis);
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.auth.service.SessionTokenStore;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class JwtFilterTest {
+
+    private static final byte[] KEY_BYTES = "test-secret-key-test-secret-key-test".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private TokenVerifier tokenVerifier;
+
+    @Mock
+    private AuthFailureRecorder authFailureRecorder;
+
+    private JwtFilter jwtFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtFilter = new JwtFilter(jwtUtil, tokenVerifier, authFailureRecorder);
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+    }
+
+    @Test
+    void 잘못된_토큰은_인증_실패로_기록하고_400_을_반환한다() throws Exception {
+        // given
+        given(tokenVerifier.verify("token")).willThrow(new MalformedJwtException("malformed"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtFilter.doFilter(request(), response, (req, res) -> fail("chain 이 호출되면 안 됩니다."));
+
+        // then
+        assertEquals(401, response.getStatus());
+        verify(authFailureRecorder).record(AuthFailureType.INVALID_SIGNATURE, "malformed");
+    }
+
+    @Test
+    void 컨트롤러에서_난_예외는_인증_실패로_처리하지_않고_그대로_전파한다() throws Exception {
+        // given
+        given(tokenVerifier.verify("token"))
+                .willReturn(new VerifiedToken(1L, "user@example.com", UserRole.USER, 0L, Long.MAX_VALUE));
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // when
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+                jwtFilter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+                    throw failure;
+                }));
+
+        // then
+        assertSame(failure, thrown);
+        verify(authFailureRecorder, never()).record(any(AuthFailureType.class), anyString());
+    }
+
+    @Test
+    void 서명은_맞지만_역할_claim_이_잘못된_토큰은_400_을_반환한다() throws Exception {
+        // given
+        JwtFilter filter = filterWithRealVerifier();
+        String unknownRole = signedToken(builder -> builder.claim("userRole", "SUPERUSER"));
+        String missingRole = signedToken(builder -> builder);
+        String unknownRoleCode = signedToken(builder -> builder.claim("r", 9));
+
+        for (String token : new String[]{unknownRole, missingRole, unknownRoleCode}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+            request.addHeader("Authorization", "Bearer " + token);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, (req, res) -> fail("chain 이 호출되면 안 됩니다."));
+
+            // then
+            assertEquals(400, response.getStatus());
+        }
+        verify(authFailureRecorder, times(3)).record(eq(AuthFailureType.INVALID_TOKEN), anyString());
+    }
+
+    private JwtFilter filterWithRealVerifier() {
+        JwtUtil realJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(realJwtUtil, "secretKey", Base64.getEncoder().encodeToString(KEY_BYTES));
+        realJwtUtil.init();
+        TokenVerifier verifier = new TokenVerifier(realJwtUtil, mock(JwtClaimsCache.class),
+                mock(SessionTokenStore.class), mock(TokenRevocationService.class));
+        return new JwtFilter(realJwtUtil, verifier, authFailureRecorder);
+    }
+
+    private static String signedToken(UnaryOperator<JwtBuilder> claims) {
+        long now = System.currentTimeMillis();
+        return claims.apply(Jwts.builder()
+                        .setSubject("1")
+                        .claim("email", "user@example.com")
+                        .setIssuedAt(new Date(now))
+                        .setExpiration(new Date(now + 60_000)))
+                .signWith(Keys.hmacShaKeyFor(KEY_BYTES), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+}
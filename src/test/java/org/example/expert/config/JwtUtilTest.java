@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final byte[] KEY_BYTES = "test-secret-key-test-secret-key-test".getBytes(StandardCharsets.UTF_8);
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(KEY_BYTES));
+        jwtUtil.init();
+    }
+
+    @Test
+    void 발급한_토큰은_extractClaims_로_검증된다() {
+        // given
+        String bearerToken = jwtUtil.createToken(1L, "user@example.com", UserRole.ADMIN);
+
+        // when
+        Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerToken));
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertEquals("user@example.com", claims.get("email", String.class));
+        assertEquals("ADMIN", claims.get("userRole", String.class));
+        assertEquals(60 * 60, (claims.getExpiration().getTime() - claims.getIssuedAt().getTime()) / 1000);
+    }
+
+    @Test
+    void Jwts_builder_와_같은_토큰을_만든다() {
+        // given
+        long now = 1_700_000_000_123L;
+        long expiresAt = now + 60 * 60 * 1000L;
+        String email = "we\"ird\\user@example.com";
+
+        String expected = Jwts.builder()
+                .setSubject("42")
+                .claim("email", email)
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(expiresAt))
+                .setIssuedAt(new Date(now))
+                .signWith(Keys.hmacShaKeyFor(KEY_BYTES), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        String minted = new JwtTokenMinter(KEY_BYTES).mint(42L, email, UserRole.USER, now, expiresAt);
+
+        // then
+        assertEquals(expected, minted);
+    }
+
+    @Test
+    void compact_토큰과_기존_토큰을_모두_VerifiedToken_으로_읽는다() {
+        // given
+        String legacy = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.ADMIN));
+        ReflectionTestUtils.setField(jwtUtil, "compactEnabled", true);
+        String compact = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.ADMIN));
+        ReflectionTestUtils.setField(jwtUtil, "compactIncludeEmail", false);
+        String compactWithoutEmail = jwtUtil.substringToken(jwtUtil.createToken(1L, "user@example.com", UserRole.ADMIN));
+
+        // when
+        VerifiedToken fromLegacy = VerifiedToken.from(jwtUtil.extractClaims(legacy));
+        VerifiedToken fromCompact = VerifiedToken.from(jwtUtil.extractClaims(compact));
+        VerifiedToken fromCompactWithoutEmail = VerifiedToken.from(jwtUtil.extractClaims(compactWithoutEmail));
+
+        // then
+        assertEquals(UserRole.ADMIN, fromLegacy.getUserRole());
+        assertEquals(UserRole.ADMIN, fromCompact.getUserRole());
+        assertEquals("user@example.com", fromCompact.getEmail());
+        assertEquals(1L, fromCompactWithoutEmail.getUserId());
+        assertNull(fromCompactWithoutEmail.getEmail());
+        assertTrue(compact.length() < legacy.length());
+        assertTrue(compactWithoutEmail.length() < compact.length());
+    }
+}
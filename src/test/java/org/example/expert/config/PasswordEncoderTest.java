@@ -1,18 +1,43 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new PasswordEncoder(2, 16, 5000, 4, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -24,5 +49,82 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertEquals(1, meterRegistry.get("auth.password.hash.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void cost_가_다른_해시는_다시_해시해야_한다() {
+        // given
+        PasswordEncoder higherCost = new PasswordEncoder(1, 4, 5000, 5, meterRegistry);
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(encodedPassword));
+        assertTrue(higherCost.needsRehash(encodedPassword));
+        assertTrue(higherCost.matches("testPassword", encodedPassword));
+        assertFalse(higherCost.needsRehash(higherCost.encode("testPassword")));
+        higherCost.shutdown();
+    }
+
+    @Test
+    void cost_가_더_높은_해시는_낮은_cost_로_다시_해시하지_않는다() {
+        // given
+        PasswordEncoder higherCost = new PasswordEncoder(1, 4, 5000, 5, meterRegistry);
+        String encodedWithHigherCost = higherCost.encode("testPassword");
+        higherCost.shutdown();
+
+        // when & then
+        assertFalse(passwordEncoder.needsRehash(encodedWithHigherCost));
+        assertTrue(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void 큐가_가득_차면_기다리지_않고_ServiceUnavailableException_을_던진다() {
+        // given
+        PasswordEncoder saturated = new PasswordEncoder(1, 1, 5000, 4, meterRegistry);
+        ThreadPoolExecutor hashExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(saturated, "hashExecutor");
+        CountDownLatch release = new CountDownLatch(1);
+        hashExecutor.execute(() -> awaitQuietly(release));   // 실행 중
+        hashExecutor.execute(() -> awaitQuietly(release));   // 큐 대기
+
+        // when
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () ->
+                saturated.encode("testPassword"));
+        release.countDown();
+        saturated.shutdown();
+
+        // then
+        assertEquals("요청이 많아 잠시 후 다시 시도해주세요.", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+
+    @Test
+    void 녹화_중이면_bcrypt_연산을_JFR_이벤트로_남긴다(@TempDir Path directory) throws Exception {
+        // given
+        String encodedPassword = passwordEncoder.encode("testPassword");
+        Path file = directory.resolve("password.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.expert.PasswordHash").withThreshold(Duration.ZERO);
+            recording.start();
+            passwordEncoder.matches("testPassword", encodedPassword);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        assertEquals("matches", events.get(0).getString("operation"));
+        assertEquals(4, events.get(0).getInt("cost"));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
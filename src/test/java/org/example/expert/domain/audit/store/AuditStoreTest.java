@@ -0,0 +1,166 @@
+package org.example.expert.domain.audit.store;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 사용자와_시간_범위로_최신순_조회한다() throws Exception {
+        // given
+        AuditStore store = openStore(4, 10);
+        store.append(1L, 1_000, "/admin/users/1", 200, 10);
+        store.append(2L, 2_000, "/admin/comments/3", 200, 20);
+        store.append(1L, 3_000, "/admin/users/2", 400, 30);
+        store.append(null, 4_000, "/admin/users/3", 401, 40);
+        store.append(1L, 5_000, "/admin/users/4", 200, 50);
+
+        // when
+        List<AuditRecord> byUser = store.find(1L, null, 2_000, 5_000, 10);
+        List<AuditRecord> byUri = store.find(null, "/admin/users", 0, 10_000, 2);
+
+        // then
+        assertEquals(List.of(5_000L, 3_000L), byUser.stream().map(AuditRecord::getEpochMillis).toList());
+        assertEquals("/admin/users/2", byUser.get(1).getUri());
+        assertEquals(400, byUser.get(1).getStatus());
+        assertEquals(List.of(5_000L, 4_000L), byUri.stream().map(AuditRecord::getEpochMillis).toList());
+        assertNull(byUri.get(1).getUserId());
+    }
+
+    @Test
+    void 재시작하면_기존_세그먼트에서_인덱스를_복구하고_이어서_쓴다() throws Exception {
+        // given
+        AuditStore store = openStore(4, 10);
+        for (int i = 1; i <= 6; i++) {
+            store.append(7L, i * 1_000L, "/admin/users/7", 200, i);
+        }
+        store.close();
+
+        // when
+        AuditStore reopened = openStore(4, 10);
+        reopened.append(7L, 7_000, "/admin/users/7", 200, 7);
+
+        // then
+        List<AuditRecord> records = reopened.find(7L, null, 0, 10_000, 100);
+        assertEquals(7, records.size());
+        assertEquals(7_000L, records.get(0).getEpochMillis());
+        assertEquals(1_000L, records.get(6).getEpochMillis());
+    }
+
+    @Test
+    void 최대_세그먼트_수를_넘으면_가장_오래된_세그먼트를_지운다() throws Exception {
+        // given
+        AuditStore store = openStore(2, 2);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            store.append(1L, i * 1_000L, "/admin/users/1", 200, i);
+        }
+
+        // then
+        assertFalse(Files.exists(directory.resolve("audit-000001.seg")));
+        assertEquals(List.of(5_000L, 4_000L, 3_000L),
+                store.find(1L, null, 0, 10_000, 100).stream().map(AuditRecord::getEpochMillis).toList());
+    }
+
+    @Test
+    void 긴_URI_는_레코드_크기에_맞게_잘린다() throws Exception {
+        // given
+        AuditStore store = openStore(4, 10);
+
+        // when
+        store.append(1L, 1_000, "/admin/users/" + "a".repeat(200), 200, 1);
+
+        // then
+        String uri = store.find(null, null, 0, 10_000, 1).get(0).getUri();
+        assertEquals(AuditSegment.RECORD_SIZE - 30, uri.length());
+        assertTrue(uri.startsWith("/admin/users/aaa"));
+    }
+
+    @Test
+    void 멀티바이트_URI_는_문자_경계에서_잘린다() throws Exception {
+        // given
+        AuditStore store = openStore(4, 10);
+        // "/admin/" 7바이트 뒤에 3바이트 한글이 이어져 98바이트 경계가 글자 중간에 걸립니다.
+        String longUri = "/admin/" + "가".repeat(40);
+
+        // when
+        store.append(1L, 1_000, longUri, 200, 1);
+
+        // then
+        String uri = store.find(null, null, 0, 10_000, 1).get(0).getUri();
+        assertFalse(uri.contains("\uFFFD"));
+        assertTrue(longUri.startsWith(uri));
+        assertEquals(7 + 30 * 3, uri.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void 은퇴한_세그먼트는_조회가_끝난_뒤에_지운다() throws Exception {
+        // given
+        Path file = directory.resolve("audit-000001.seg");
+        AuditSegment segment = new AuditSegment(file, 2);
+        segment.append(1L, 1_000, "/admin/users/1", 200, 1);
+        assertTrue(segment.acquire());
+
+        // when
+        segment.retire();
+
+        // then
+        assertTrue(Files.exists(file));
+        assertEquals("/admin/users/1", segment.read(0).getUri());
+        segment.release();
+        assertFalse(Files.exists(file));
+        assertFalse(segment.acquire());
+    }
+
+    @Test
+    void 조회는_쓰기_잠금을_기다리지_않는다() throws Exception {
+        // given
+        AuditStore store = openStore(4, 10);
+        store.append(1L, 1_000, "/admin/users/1", 200, 10);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            synchronized (store) {
+                locked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        writer.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when
+        List<AuditRecord> records;
+        try {
+            records = store.find(1L, null, 0, 10_000, 10);
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+
+        // then
+        assertEquals(1, records.size());
+    }
+
+    private AuditStore openStore(int recordsPerSegment, int maxSegments) throws Exception {
+        AuditStore store = new AuditStore(directory.toString(), recordsPerSegment, maxSegments);
+        store.open();
+        return store;
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.expert.domain.auth.controller;
+
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninThrottle;
+import org.example.expert.domain.auth.service.TokenIntrospectionService;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class AuthControllerTest {
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Mock
+    private SigninThrottle signinThrottle;
+
+    @InjectMocks
+    private AuthController authController;
+
+    @Test
+    void 로그인_시도가_제한되면_트랜잭션을_여는_서비스를_호출하지_않는다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@example.com", "wrongPassword");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("127.0.0.1");
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                .given(signinThrottle).checkAllowed("test@example.com", "127.0.0.1");
+
+        // when
+        assertThrows(TooManyRequestsException.class, () -> authController.signin(signinRequest, request));
+
+        // then
+        verify(authService, never()).signin(any(), anyString());
+    }
+
+    @Test
+    void 로그인_제한은_요청의_클라이언트_IP_로_확인한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("test@example.com", "password123");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+
+        // when
+        authController.signin(signinRequest, request);
+
+        // then
+        verify(signinThrottle).checkAllowed("test@example.com", "203.0.113.7");
+        verify(authService).signin(signinRequest, "203.0.113.7");
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.auth.controller;
+
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninThrottle;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import static org.mockito.Mockito.verify;
+
+/**
+ * 실제 Tomcat 으로 요청을 보내 로그인 제한 키에 쓰이는 클라이언트 IP 를 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SigninClientIpTest {
+
+    private static final String SIGNIN_BODY = "{\"email\":\"user@example.com\",\"password\":\"password123\"}";
+
+    @MockBean
+    private SigninThrottle signinThrottle;
+
+    @MockBean
+    private AuthService authService;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void 신뢰하지_않는_주소가_보낸_X_Forwarded_For_로는_제한_키가_바뀌지_않는다() {
+        // when
+        signinWithForwardedFor(port, "203.0.113.7");
+
+        // then
+        verify(signinThrottle).checkAllowed("user@example.com", "127.0.0.1");
+    }
+
+    @Nested
+    @TestPropertySource(properties = "server.tomcat.remoteip.internal-proxies=127\\.0\\.0\\.1")
+    class TrustedProxyTest {
+
+        @Autowired
+        private SigninThrottle signinThrottle;
+
+        @LocalServerPort
+        private int port;
+
+        @Test
+        void 신뢰하는_프록시가_보낸_X_Forwarded_For_로_제한_키를_정한다() {
+            // when
+            signinWithForwardedFor(port, "203.0.113.7");
+
+            // then
+            verify(signinThrottle).checkAllowed("user@example.com", "203.0.113.7");
+        }
+    }
+
+    private static void signinWithForwardedFor(int port, String forwardedFor) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", forwardedFor);
+        new RestTemplate().postForEntity("http://127.0.0.1:" + port + "/auth/signin",
+                new HttpEntity<>(SIGNIN_BODY, headers), String.class);
+    }
+}
@@ -4,10 +4,13 @@ import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
@@ -24,6 +27,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class AuthServiceTest {
@@ -42,6 +47,18 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private SigninThrottle signinThrottle;
+
+    @Mock
+    private SessionTokenStore sessionTokenStore;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -72,7 +89,7 @@ class AuthServiceTest {
             given(userRepository.existsByEmail(anyString())).willReturn(false);
             given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
             given(userRepository.save(any(User.class))).willReturn(user);
-            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("testToken");
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class), anyLong())).willReturn("testToken");
 
             // when
             SignupResponse signupResponse = authService.signup(signupRequest);
@@ -95,7 +112,7 @@ class AuthServiceTest {
 
             // when
             InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> {
-                authService.signin(signinRequest);
+                authService.signin(signinRequest, "127.0.0.1");
             });
 
             // then
@@ -113,11 +130,12 @@ class AuthServiceTest {
 
             // when
             AuthException exception = assertThrows(AuthException.class, () -> {
-                authService.signin(signinRequest);
+                authService.signin(signinRequest, "127.0.0.1");
             });
 
             // then
             assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+            verify(signinThrottle).recordFailure("test@example.com", "127.0.0.1");
         }
 
         @Test
@@ -129,16 +147,115 @@ class AuthServiceTest {
 
             given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
             given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
-            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class))).willReturn("testToken");
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class), anyLong())).willReturn("testToken");
 
             // when
-            SigninResponse signinResponse = authService.signin(signinRequest);
+            SigninResponse signinResponse = authService.signin(signinRequest, "127.0.0.1");
 
             // then
             assertNotNull(signinResponse);
             assertEquals("testToken", signinResponse.getBearerToken());
         }
 
+        @Test
+        void 해시_cost_가_바뀌었으면_로그인_성공시_다시_해시한다() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("test@example.com", "password123");
+            User user = new User("test@example.com", "$2a$04$oldHash", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(passwordEncoder.needsRehash("$2a$04$oldHash")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("$2a$12$newHash");
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class), anyLong())).willReturn("testToken");
+
+            // when
+            authService.signin(signinRequest, "127.0.0.1");
+
+            // then
+            assertEquals("$2a$12$newHash", user.getPassword());
+        }
+
+        @Test
+        void 재해시가_거절되어도_로그인은_성공한다() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("test@example.com", "password123");
+            User user = new User("test@example.com", "$2a$04$oldHash", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(passwordEncoder.needsRehash("$2a$04$oldHash")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willThrow(new ServiceUnavailableException("busy"));
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class), anyLong())).willReturn("testToken");
+
+            // when
+            SigninResponse response = authService.signin(signinRequest, "127.0.0.1");
+
+            // then
+            assertEquals("testToken", response.getBearerToken());
+            assertEquals("$2a$04$oldHash", user.getPassword());
+        }
+
+        @Test
+        void session_모드면_세션_토큰을_발급한다() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("test@example.com", "password123");
+            User user = new User("test@example.com", "encodedPassword", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+            given(sessionTokenStore.isEnabled()).willReturn(true);
+            given(sessionTokenStore.create(eq(1L), eq("test@example.com"), eq(UserRole.USER), anyLong())).willReturn("opaqueSessionToken");
+
+            // when
+            SigninResponse signinResponse = authService.signin(signinRequest, "127.0.0.1");
+
+            // then
+            assertEquals("Bearer opaqueSessionToken", signinResponse.getBearerToken());
+            verify(jwtUtil, never()).createToken(anyLong(), anyString(), any(UserRole.class));
+        }
+
+    }
+
+    @Nested
+    class RefreshTest{
+
+        @Test
+        void refresh_token_으로_토큰을_재발급한다() {
+            // given
+            User user = TEST_USER;
+            ReflectionTestUtils.setField(user, "id", 1L);
+
+            given(refreshTokenService.consume("oldRefreshToken")).willReturn(1L);
+            given(userRepository.findById(1L)).willReturn(Optional.of(user));
+            given(jwtUtil.createToken(anyLong(), anyString(), any(UserRole.class), anyLong())).willReturn("testToken");
+            given(refreshTokenService.issue(1L)).willReturn("newRefreshToken");
+
+            // when
+            TokenRefreshResponse response = authService.refresh(new TokenRefreshRequest("oldRefreshToken"));
+
+            // then
+            assertEquals("testToken", response.getBearerToken());
+            assertEquals("newRefreshToken", response.getRefreshToken());
+        }
+
+        @Test
+        void 유효하지_않은_refresh_token_이면_예외_발생() {
+            // given
+            given(refreshTokenService.consume(anyString()))
+                    .willThrow(new AuthException("유효하지 않은 refresh token 입니다."));
+
+            // when
+            AuthException exception = assertThrows(AuthException.class, () ->
+                    authService.refresh(new TokenRefreshRequest("unknown")));
+
+            // then
+            assertEquals("유효하지 않은 refresh token 입니다.", exception.getMessage());
+        }
+
     }
 
 }
\ No newline at end of file
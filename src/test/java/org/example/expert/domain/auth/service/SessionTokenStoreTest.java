@@ -0,0 +1,183 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.AuthSession;
+import org.example.expert.domain.auth.repository.AuthSessionRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.job.LeasedJobRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class SessionTokenStoreTest {
+
+    @Mock
+    private AuthSessionRepository authSessionRepository;
+
+    @Mock
+    private LeasedJobRunner leasedJobRunner;
+
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("session-secret-key-session-secret-key".getBytes(StandardCharsets.UTF_8));
+
+    private SessionTokenStore createStore(boolean databaseFallback, long ttlMillis) {
+        return createStore(databaseFallback, ttlMillis, 1000);
+    }
+
+    private SessionTokenStore createStore(boolean databaseFallback, long ttlMillis, int maxEntries) {
+        return createStore(databaseFallback, ttlMillis, maxEntries, new SimpleMeterRegistry());
+    }
+
+    private SessionTokenStore createStore(boolean databaseFallback, long ttlMillis, int maxEntries,
+                                          SimpleMeterRegistry meterRegistry) {
+        return new SessionTokenStore(authSessionRepository, leasedJobRunner, SessionTokenStore.MODE_SESSION,
+                databaseFallback, ttlMillis, maxEntries, SECRET_KEY, meterRegistry);
+    }
+
+    @Test
+    void 발급한_세션_토큰을_메모리에서_찾는다() {
+        // given
+        SessionTokenStore store = createStore(false, 60_000);
+        String token = store.create(1L, "user@example.com", UserRole.ADMIN);
+
+        // when
+        VerifiedToken session = store.resolve(token);
+
+        // then
+        assertTrue(SessionTokenStore.isSessionToken(token));
+        assertEquals(1L, session.getUserId());
+        assertEquals(UserRole.ADMIN, session.getUserRole());
+        assertNull(store.resolve("unknown"));
+        verify(authSessionRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void 만료된_세션은_찾지_못한다() {
+        // given
+        SessionTokenStore store = createStore(false, -1);
+        String token = store.create(1L, "user@example.com", UserRole.USER);
+
+        // when & then
+        assertNull(store.resolve(token));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 메모리에_없는_세션은_DB_에서_찾아_다시_올린다() {
+        // given
+        SessionTokenStore issuer = createStore(true, 60_000);
+        String token = issuer.create(1L, "user@example.com", UserRole.USER);
+        ArgumentCaptor<AuthSession> saved = ArgumentCaptor.forClass(AuthSession.class);
+        verify(authSessionRepository).save(saved.capture());
+
+        SessionTokenStore otherNode = createStore(true, 60_000);
+        given(authSessionRepository.findById(saved.getValue().getTokenHash())).willReturn(Optional.of(saved.getValue()));
+
+        // when
+        VerifiedToken session = otherNode.resolve(token);
+
+        // then
+        assertEquals(1L, session.getUserId());
+        assertEquals(1, otherNode.size());
+        assertNotEquals(token, saved.getValue().getTokenHash());
+    }
+
+    @Test
+    void 알_수_없는_auth_mode_면_예외_발생() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> new SessionTokenStore(authSessionRepository, leasedJobRunner,
+                "cookie", false, 60_000, 1000, SECRET_KEY, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void 서명이_맞지_않는_토큰은_DB_를_조회하지_않는다() {
+        // given
+        SessionTokenStore store = createStore(true, 60_000);
+        String token = store.create(1L, "user@example.com", UserRole.USER);
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        // when & then
+        assertNull(store.resolve(tampered));
+        assertNull(store.resolve("garbage-token-without-dots"));
+        verify(authSessionRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void 최대_세션_수를_넘지_않는다() {
+        // given
+        SessionTokenStore store = createStore(false, 60_000, 16);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            store.create((long) i, "user@example.com", UserRole.USER);
+        }
+
+        // then
+        assertTrue(store.size() <= 16);
+    }
+
+    @Test
+    void 한도를_넘으면_만료된_세션을_살아_있는_세션보다_먼저_비운다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionTokenStore store = createStore(false, 60_000, 16, meterRegistry);
+        long now = System.currentTimeMillis();
+        store.create(0L, "expired@example.com", UserRole.USER, now - 120_000);
+        List<String> liveTokens = new ArrayList<>();
+        for (int i = 1; i < 16; i++) {
+            liveTokens.add(store.create((long) i, "user@example.com", UserRole.USER, now));
+        }
+
+        // when
+        String newToken = store.create(16L, "new@example.com", UserRole.USER, now);
+
+        // then
+        assertEquals(16, store.size());
+        for (String token : liveTokens) {
+            assertNotNull(store.resolve(token));
+        }
+        assertNotNull(store.resolve(newToken));
+        assertEquals(1.0, meterRegistry.get("auth.session.evictions").tag("reason", "expired").counter().count());
+        assertEquals(0.0, meterRegistry.get("auth.session.evictions").tag("reason", "capacity").counter().count());
+    }
+
+    @Test
+    void 살아_있는_세션만_있으면_만료가_가장_가까운_세션부터_비운다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionTokenStore store = createStore(false, 60_000, 16, meterRegistry);
+        long now = System.currentTimeMillis();
+        String oldest = store.create(0L, "oldest@example.com", UserRole.USER, now - 30_000);
+        List<String> newerTokens = new ArrayList<>();
+        for (int i = 1; i < 16; i++) {
+            newerTokens.add(store.create((long) i, "user@example.com", UserRole.USER, now + i));
+        }
+
+        // when
+        store.create(16L, "new@example.com", UserRole.USER, now + 16);
+
+        // then
+        assertNull(store.resolve(oldest));
+        for (String token : newerTokens) {
+            assertNotNull(store.resolve(token));
+        }
+        assertEquals(1.0, meterRegistry.get("auth.session.evictions").tag("reason", "capacity").counter().count());
+    }
+}
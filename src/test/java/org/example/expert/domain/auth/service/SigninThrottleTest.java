@@ -0,0 +1,87 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninThrottleTest {
+
+    private static final long WINDOW_MILLIS = 60_000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SimpleMeterRegistry meterRegistry;
+    private SigninThrottle signinThrottle;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        signinThrottle = new SigninThrottle(WINDOW_MILLIS, 3, 10, 1000, meterRegistry, now::get);
+    }
+
+    @Test
+    void 이메일별_실패_한도를_넘으면_거절한다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            signinThrottle.recordFailure("User@Example.com", "10.0.0." + i);
+        }
+
+        // when
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () ->
+                signinThrottle.checkAllowed("user@example.com", "10.0.0.9"));
+
+        // then
+        assertEquals("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("auth.signin.throttled").tag("key", "email").counter().count());
+        assertDoesNotThrow(() -> signinThrottle.checkAllowed("other@example.com", "10.0.0.9"));
+    }
+
+    @Test
+    void IP_별_실패_한도를_넘으면_다른_이메일도_거절한다() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            signinThrottle.recordFailure("user" + i + "@example.com", "10.0.0.1");
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () ->
+                signinThrottle.checkAllowed("new@example.com", "10.0.0.1"));
+        assertEquals(1.0, meterRegistry.get("auth.signin.throttled").tag("key", "ip").counter().count());
+    }
+
+    @Test
+    void 윈도우가_지나면_다시_허용하고_정리된다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            signinThrottle.recordFailure("user@example.com", "10.0.0.1");
+        }
+
+        // when
+        now.addAndGet(WINDOW_MILLIS + WINDOW_MILLIS / 2);
+
+        // then (직전 윈도우의 절반만 반영되어 1.5회로 계산)
+        assertDoesNotThrow(() -> signinThrottle.checkAllowed("user@example.com", "10.0.0.1"));
+
+        now.addAndGet(WINDOW_MILLIS * 2);
+        signinThrottle.evictExpired();
+        assertEquals(0, signinThrottle.size());
+    }
+
+    @Test
+    void 로그인에_성공하면_이메일_실패_기록을_지운다() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            signinThrottle.recordFailure("user@example.com", "10.0.0.1");
+        }
+
+        // when
+        signinThrottle.recordSuccess("user@example.com");
+
+        // then
+        assertDoesNotThrow(() -> signinThrottle.checkAllowed("user@example.com", "10.0.0.1"));
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.expert.domain.auth.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.JwtClaimsCache;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.TokenVerifier;
+import org.example.expert.config.VerifiedToken;
+import org.example.expert.domain.auth.dto.request.TokenIntrospectionRequest;
+import org.example.expert.domain.auth.dto.response.TokenIntrospectionResponse;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class TokenIntrospectionServiceTest {
+
+    private static final String CLIENT_SECRET = "gateway-secret";
+    private static final String CLIENT_IP = "10.0.0.1";
+
+    @Mock
+    private TokenVerifier tokenVerifier;
+
+    @Mock
+    private SigninThrottle signinThrottle;
+
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenIntrospectionService = new TokenIntrospectionService(tokenVerifier, signinThrottle, CLIENT_SECRET, 3,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 토큰마다_상태를_요청한_순서대로_반환한다() {
+        // given
+        VerifiedToken active = new VerifiedToken(1L, "user@example.com", UserRole.ADMIN, 0L, Long.MAX_VALUE);
+        VerifiedToken revoked = new VerifiedToken(2L, "other@example.com", UserRole.USER, 0L, Long.MAX_VALUE);
+        given(tokenVerifier.verify("active")).willReturn(active);
+        given(tokenVerifier.verify("revoked")).willReturn(revoked);
+        given(tokenVerifier.isRevoked(revoked)).willReturn(true);
+        given(tokenVerifier.verify("expired")).willThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // when
+        TokenIntrospectionResponse response = tokenIntrospectionService.introspect(
+                new TokenIntrospectionRequest(List.of("Bearer active", "revoked", "expired")), null, CLIENT_SECRET, CLIENT_IP);
+
+        // then
+        List<TokenIntrospectionResponse.Result> results = response.getResults();
+        assertEquals(TokenIntrospectionService.ACTIVE, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getUserId());
+        assertEquals(UserRole.ADMIN, results.get(0).getRole());
+        assertEquals(TokenIntrospectionService.REVOKED, results.get(1).getStatus());
+        assertNull(results.get(1).getUserId());
+        assertEquals(TokenIntrospectionService.EXPIRED, results.get(2).getStatus());
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_invalid_로_반환한다() {
+        // given
+        given(tokenVerifier.verify("malformed")).willThrow(new MalformedJwtException("malformed"));
+
+        // when
+        TokenIntrospectionResponse response = tokenIntrospectionService.introspect(
+                new TokenIntrospectionRequest(List.of("malformed", " ")), null, CLIENT_SECRET, CLIENT_IP);
+
+        // then
+        assertEquals(TokenIntrospectionService.INVALID, response.getResults().get(0).getStatus());
+        assertEquals(TokenIntrospectionService.INVALID, response.getResults().get(1).getStatus());
+    }
+
+    @Test
+    void 역할_claim_이_잘못된_토큰은_그_토큰만_invalid_로_반환한다() {
+        // given
+        byte[] keyBytes = "test-secret-key-test-secret-key-test".getBytes(StandardCharsets.UTF_8);
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(keyBytes));
+        jwtUtil.init();
+        TokenVerifier realVerifier = new TokenVerifier(jwtUtil, mock(JwtClaimsCache.class),
+                mock(SessionTokenStore.class), mock(TokenRevocationService.class));
+        TokenIntrospectionService service = new TokenIntrospectionService(realVerifier, signinThrottle, CLIENT_SECRET, 3,
+                new SimpleMeterRegistry());
+
+        String valid = jwtUtil.createToken(1L, "user@example.com", UserRole.USER);
+        String unknownRole = Jwts.builder()
+                .setSubject("2")
+                .claim("userRole", "SUPERUSER")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(keyBytes), SignatureAlgorithm.HS256)
+                .compact();
+        String missingRole = Jwts.builder()
+                .setSubject("3")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(keyBytes), SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        TokenIntrospectionResponse response = service.introspect(
+                new TokenIntrospectionRequest(List.of(unknownRole, valid, missingRole)), null, CLIENT_SECRET, CLIENT_IP);
+
+        // then
+        List<TokenIntrospectionResponse.Result> results = response.getResults();
+        assertEquals(TokenIntrospectionService.INVALID, results.get(0).getStatus());
+        assertEquals(TokenIntrospectionService.ACTIVE, results.get(1).getStatus());
+        assertEquals(1L, results.get(1).getUserId());
+        assertEquals(TokenIntrospectionService.INVALID, results.get(2).getStatus());
+    }
+
+    @Test
+    void 최대_개수를_넘으면_예외_발생() {
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                tokenIntrospectionService.introspect(new TokenIntrospectionRequest(Collections.nCopies(4, "token")),
+                        null, CLIENT_SECRET, CLIENT_IP));
+
+        // then
+        assertEquals("한 번에 검증할 수 있는 토큰은 최대 3개입니다.", exception.getMessage());
+    }
+
+    @Test
+    void 관리자_토큰으로_호출하면_검증한다() {
+        // given
+        VerifiedToken admin = new VerifiedToken(1L, "admin@example.com", UserRole.ADMIN, 0L, Long.MAX_VALUE);
+        given(tokenVerifier.verify("adminToken")).willReturn(admin);
+        given(tokenVerifier.verify("active")).willReturn(admin);
+
+        // when
+        TokenIntrospectionResponse response = tokenIntrospectionService.introspect(
+                new TokenIntrospectionRequest(List.of("active")), "Bearer adminToken", null, CLIENT_IP);
+
+        // then
+        assertEquals(TokenIntrospectionService.ACTIVE, response.getResults().get(0).getStatus());
+    }
+
+    @Test
+    void 호출자가_인증되지_않으면_토큰을_검증하지_않고_실패를_기록한다() {
+        // given
+        VerifiedToken user = new VerifiedToken(2L, "user@example.com", UserRole.USER, 0L, Long.MAX_VALUE);
+        given(tokenVerifier.verify("userToken")).willReturn(user);
+        TokenIntrospectionRequest request = new TokenIntrospectionRequest(List.of("stolen"));
+
+        // when & then
+        assertThrows(AuthException.class, () ->
+                tokenIntrospectionService.introspect(request, null, null, CLIENT_IP));
+        assertThrows(AuthException.class, () ->
+                tokenIntrospectionService.introspect(request, null, "wrong-secret", CLIENT_IP));
+        assertThrows(AuthException.class, () ->
+                tokenIntrospectionService.introspect(request, "Bearer userToken", null, CLIENT_IP));
+        verify(tokenVerifier, never()).verify("stolen");
+        verify(signinThrottle, times(3)).recordFailure(CLIENT_IP);
+    }
+
+    @Test
+    void 실패가_누적된_IP_는_429_로_거절한다() {
+        // given
+        willThrow(new TooManyRequestsException("too many")).given(signinThrottle).checkAllowed(CLIENT_IP);
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> tokenIntrospectionService.introspect(
+                new TokenIntrospectionRequest(List.of("token")), null, CLIENT_SECRET, CLIENT_IP));
+        verify(tokenVerifier, never()).verify("token");
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.job.LeasedJobRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Mock
+    private LeasedJobRunner leasedJobRunner;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenRevocationService = new TokenRevocationService(tokenRevocationRepository, leasedJobRunner, 1000, meterRegistry);
+    }
+
+    @Test
+    void 폐기_기록이_없으면_bloom_filter_에서_바로_통과한다() {
+        // when
+        boolean revoked = tokenRevocationService.isRevoked(1L, System.currentTimeMillis());
+
+        // then
+        assertFalse(revoked);
+        assertEquals(1.0, meterRegistry.get("auth.revocation.checks").tag("result", "bloom_negative").counter().count());
+    }
+
+    @Test
+    void 폐기_이전에_발급된_토큰은_폐기된_것으로_판단한다() {
+        // given
+        long issuedAt = System.currentTimeMillis() - 5_000;
+
+        // when
+        tokenRevocationService.revoke(1L);
+
+        // then
+        verify(tokenRevocationRepository).save(any(TokenRevocation.class));
+        assertTrue(tokenRevocationService.isRevoked(1L, issuedAt));
+        assertFalse(tokenRevocationService.isRevoked(1L, System.currentTimeMillis() + 5_000));
+        assertFalse(tokenRevocationService.isRevoked(2L, issuedAt));
+    }
+
+    @Test
+    void 다른_인스턴스의_폐기_기록은_재적재_후_반영된다() {
+        // given
+        Instant revokedAt = Instant.now();
+        given(tokenRevocationRepository.findAllByRevokedAtAfter(any(Instant.class)))
+                .willReturn(List.of(new TokenRevocation(7L, revokedAt)));
+        long issuedAt = revokedAt.toEpochMilli() - 60_000;
+        assertFalse(tokenRevocationService.isRevoked(7L, issuedAt));
+
+        // when
+        tokenRevocationService.reload();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(7L, issuedAt));
+        assertEquals(1.0, meterRegistry.get("auth.revocation.entries").gauge().value());
+    }
+
+    @Test
+    void 재적재에_실패하면_기존_목록을_유지한다() {
+        // given
+        tokenRevocationService.revoke(3L);
+        given(tokenRevocationRepository.findAllByRevokedAtAfter(any(Instant.class)))
+                .willThrow(new IllegalStateException("db down"));
+
+        // when
+        tokenRevocationService.reload();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(3L, System.currentTimeMillis() - 5_000));
+    }
+
+    @Test
+    void 폐기_직후_같은_초에_발급한_토큰은_폐기되지_않는다() {
+        // given
+        long issuedBeforeRevoke = System.currentTimeMillis() / 1000 * 1000;
+        given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+        tokenRevocationService.revoke(1L);
+
+        // when
+        long issuedAfterRevoke = tokenRevocationService.issuedAtMillisFor(1L);
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(1L, issuedBeforeRevoke));
+        // JWT 의 iat 처럼 초 단위로 잘라도 폐기되지 않아야 합니다.
+        assertFalse(tokenRevocationService.isRevoked(1L, issuedAfterRevoke / 1000 * 1000));
+    }
+
+    @Test
+    void 트랜잭션이_커밋된_뒤에_메모리_목록에_반영한다() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tokenRevocationService.revoke(5L);
+            assertFalse(tokenRevocationService.isRevoked(5L, System.currentTimeMillis() - 5_000));
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(5L, System.currentTimeMillis() - 5_000));
+    }
+
+    @Test
+    void 재적재_스냅샷에_없는_최신_메모리_기록은_유지한다() {
+        // given
+        tokenRevocationService.revoke(9L);
+        given(tokenRevocationRepository.findAllByRevokedAtAfter(any(Instant.class))).willReturn(List.of());
+
+        // when
+        tokenRevocationService.reload();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(9L, System.currentTimeMillis() - 5_000));
+    }
+}
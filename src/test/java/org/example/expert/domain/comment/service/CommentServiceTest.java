@@ -10,6 +10,7 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,8 @@ class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private UserRepository userRepository;
     @InjectMocks
     private CommentService commentService;
 
@@ -90,6 +93,26 @@ class CommentServiceTest {
             assertNotNull(result);
         }
 
+        @Test
+        public void 이메일이_없는_압축_토큰이면_DB_에서_이메일을_채워_응답한다() {
+            // given
+            long todoId = TEST_TODO_ID;
+            CommentSaveRequest request = TEST_COMMENT_SAVE_REQUEST_DTO;
+            AuthUser authUser = new AuthUser(1L, null, UserRole.USER);
+            Todo todo = TEST_TODO1;
+            Comment comment = new Comment(request.getContents(), User.fromAuthUser(authUser), todo);
+
+            given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
+            given(commentRepository.save(any())).willReturn(comment);
+            given(userRepository.findEmailById(1L)).willReturn(Optional.of("email1"));
+
+            // when
+            CommentSaveResponse result = commentService.saveComment(authUser, todoId, request);
+
+            // then
+            assertEquals("email1", result.getUser().getEmail());
+        }
+
         @Test
         public void comment를_등록시_manager가_아니면_에러발생() {
             // given
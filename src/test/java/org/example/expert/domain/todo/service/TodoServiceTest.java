@@ -6,13 +6,17 @@ import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.event.TodoCreatedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +31,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 class TodoServiceTest {
@@ -41,6 +47,15 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private UserRepository userRepository;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -67,6 +82,64 @@ class TodoServiceTest {
         assertEquals(authUser.getEmail(), response.getUser().getEmail());
     }
 
+    @Test
+    void 이메일이_없는_압축_토큰이면_DB_에서_이메일을_채워_응답() {
+        // given
+        AuthUser authUser = new AuthUser(1L, null, UserRole.USER);
+        User user = User.fromAuthUser(authUser);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("Test Title", "Test Contents");
+
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.save(any(Todo.class))).willReturn(new Todo("Test Title", "Test Contents", "Sunny", user));
+        given(userRepository.findEmailById(1L)).willReturn(Optional.of("user@naver.com"));
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertEquals("user@naver.com", response.getUser().getEmail());
+    }
+
+    @Test
+    void 토큰에_이메일이_있으면_DB_를_조회하지_않음() {
+        // given
+        AuthUser authUser = TEST_AUTHUSER;
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("Test Title", "Test Contents");
+
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(todoRepository.save(any(Todo.class)))
+                .willReturn(new Todo("Test Title", "Test Contents", "Sunny", User.fromAuthUser(authUser)));
+
+        // when
+        todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        verify(userRepository, never()).findEmailById(any());
+    }
+
+    @Test
+    void 비동기_날씨_보강_모드에서는_날씨_없이_저장() {
+        // given
+        AuthUser authUser = TEST_AUTHUSER;
+        User user = User.fromAuthUser(authUser);
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("Test Title", "Test Contents");
+
+        given(todoWeatherEnricher.isAsyncEnabled()).willReturn(true);
+
+        Todo pendingTodo = Todo.withPendingWeather("Test Title", "Test Contents", user);
+        ReflectionTestUtils.setField(pendingTodo, "id", 1L);
+        given(todoRepository.save(any(Todo.class))).willReturn(pendingTodo);
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then
+        assertNull(response.getWeather());
+        assertEquals(WeatherStatus.PENDING, pendingTodo.getWeatherStatus());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(eventPublisher).publishEvent(any(TodoCreatedEvent.class));
+    }
+
     @Test
     void Todo_목록_조회_성공() {
         // given
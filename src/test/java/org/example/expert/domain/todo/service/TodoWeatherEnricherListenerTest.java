@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherSnapshot;
+import org.example.expert.client.WeatherSource;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest(properties = {
+        "todo.weather.async-enrichment=true",
+        "weather.refresh.initial-delay-ms=3600000",
+        "todo.weather.backfill.initial-delay-ms=3600000"
+})
+class TodoWeatherEnricherListenerTest {
+
+    @MockBean
+    private WeatherSource weatherSource;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @AfterEach
+    void tearDown() {
+        managerRepository.deleteAll();
+        todoRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void 커밋된_PENDING_일정의_날씨를_리스너가_채운다() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        String[] slots = new String[WeatherSnapshot.SLOT_COUNT];
+        slots[WeatherSnapshot.slotOf(today.getMonthValue(), today.getDayOfMonth())] = "Sunny";
+        given(weatherSource.load()).willReturn(slots);
+
+        User user = userRepository.save(new User("enrich@example.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertNull(response.getWeather());
+        Todo todo = awaitResolved(response.getId());
+        assertEquals(WeatherStatus.RESOLVED, todo.getWeatherStatus());
+        assertEquals("Sunny", todo.getWeather());
+    }
+
+    private Todo awaitResolved(Long todoId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        Todo todo = todoRepository.findById(todoId).orElseThrow();
+        while (todo.getWeatherStatus() == WeatherStatus.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            todo = todoRepository.findById(todoId).orElseThrow();
+        }
+        return todo;
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherCallGuard;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherSnapshot;
+import org.example.expert.client.WeatherSource;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.job.LeasedJobRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(SpringExtension.class)
+class TodoWeatherEnricherTest {
+
+    private static final User TEST_USER = new User("user@example.com", "password", UserRole.USER);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private LeasedJobRunner leasedJobRunner;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 피드에_없는_날짜의_일정은_기본값으로_확정하고_뒤의_일정을_계속_처리한다() {
+        // given
+        String[] slots = new String[WeatherSnapshot.SLOT_COUNT];
+        slots[WeatherSnapshot.slotOf(3, 1)] = "Sunny";
+        WeatherClient weatherClient = weatherClient(new WeatherCallGuard(5, 60_000, 4, 0, meterRegistry),
+                () -> slots);
+        TodoWeatherEnricher enricher = enricher(weatherClient);
+
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(pendingTodo(1L, LocalDate.of(2024, 2, 29)), pendingTodo(2L, LocalDate.of(2024, 3, 1))));
+
+        // when
+        enricher.backfillPendingWeather();
+
+        // then
+        verify(todoRepository).resolvePendingWeather(1L, "Unknown", WeatherStatus.PENDING, WeatherStatus.RESOLVED);
+        verify(todoRepository).resolvePendingWeather(2L, "Sunny", WeatherStatus.PENDING, WeatherStatus.RESOLVED);
+    }
+
+    @Test
+    void 서킷이_열려_피드를_가져올_수_없으면_배치를_멈춘다() {
+        // given
+        WeatherCallGuard guard = new WeatherCallGuard(1, 60_000, 4, 0, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        WeatherClient weatherClient = weatherClient(guard, () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("upstream down");
+        });
+        assertThrows(IllegalStateException.class, weatherClient::refresh);
+        TodoWeatherEnricher enricher = enricher(weatherClient);
+
+        given(todoRepository.findByWeatherStatusOrderByIdAsc(eq(WeatherStatus.PENDING), any(Pageable.class)))
+                .willReturn(List.of(pendingTodo(1L, LocalDate.of(2024, 3, 1)), pendingTodo(2L, LocalDate.of(2024, 3, 2))));
+
+        // when
+        enricher.backfillPendingWeather();
+
+        // then
+        assertEquals(WeatherCallGuard.State.OPEN, guard.getState());
+        assertEquals(1, loads.get());
+        verify(todoRepository, never()).resolvePendingWeather(anyLong(), anyString(), any(), any());
+    }
+
+    private TodoWeatherEnricher enricher(WeatherClient weatherClient) {
+        TodoWeatherEnricher enricher = new TodoWeatherEnricher(todoRepository, weatherClient, leasedJobRunner);
+        ReflectionTestUtils.setField(enricher, "backfillBatchSize", 100);
+        return enricher;
+    }
+
+    private WeatherClient weatherClient(WeatherCallGuard guard, WeatherSource source) {
+        return new WeatherClient(source, guard, "Unknown", meterRegistry);
+    }
+
+    private static Todo pendingTodo(Long id, LocalDate createdDate) {
+        Todo todo = Todo.withPendingWeather("title", "contents", TEST_USER);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", createdDate.atStartOfDay());
+        return todo;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.expert.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.job.repository.JobLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeasedJobRunnerTest {
+
+    private static final String JOB_NAME = "test-job";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseRepository.deleteAll();
+    }
+
+    @Test
+    void lease_를_가진_노드만_작업을_실행한다() {
+        // given
+        LeasedJobRunner nodeA = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-a");
+        LeasedJobRunner nodeB = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-b");
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ranOnA = nodeA.runExclusively(JOB_NAME, Duration.ofMinutes(1), runs::incrementAndGet);
+        boolean ranOnB = nodeB.runExclusively(JOB_NAME, Duration.ofMinutes(1), runs::incrementAndGet);
+        boolean ranOnAAgain = nodeA.runExclusively(JOB_NAME, Duration.ofMinutes(1), runs::incrementAndGet);
+
+        // then
+        assertTrue(ranOnA);
+        assertFalse(ranOnB);
+        assertTrue(ranOnAAgain);
+        assertEquals(2, runs.get());
+        assertEquals(1.0, meterRegistry.get("job.runs.skipped").tag("job", JOB_NAME).counter().count());
+        assertEquals(2, meterRegistry.get("job.run.duration").tag("job", JOB_NAME).timer().count());
+    }
+
+    @Test
+    void lease_가_반납되면_다른_노드가_이어받는다() {
+        // given
+        LeasedJobRunner nodeA = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-a");
+        LeasedJobRunner nodeB = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-b");
+        nodeA.runExclusively(JOB_NAME, Duration.ofMinutes(1), () -> { });
+
+        // when
+        nodeA.releaseAll();
+        boolean ranOnB = nodeB.runExclusively(JOB_NAME, Duration.ofMinutes(1), () -> { });
+
+        // then
+        assertTrue(ranOnB);
+        assertEquals("node-b", jobLeaseRepository.findById(JOB_NAME).orElseThrow().getOwner());
+        assertEquals(1.0, meterRegistry.get("job.lease.handoffs").tag("job", JOB_NAME).counter().count());
+    }
+
+    @Test
+    void lease_만료_시각은_DB_시계로_계산한다() {
+        // given
+        LeasedJobRunner nodeA = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-a");
+        Instant before = Instant.now().minusSeconds(5);
+
+        // when
+        nodeA.runExclusively(JOB_NAME, Duration.ofMinutes(1), () -> { });
+
+        // then
+        Instant leasedUntil = jobLeaseRepository.findById(JOB_NAME).orElseThrow().getLeasedUntil();
+        assertTrue(leasedUntil.isAfter(before.plus(Duration.ofMinutes(1))));
+        assertTrue(leasedUntil.isBefore(Instant.now().plus(Duration.ofMinutes(1)).plusSeconds(5)));
+    }
+
+    @Test
+    void DB_시계로_만료된_lease_는_다른_노드가_가져간다() {
+        // given
+        jobLeaseRepository.insertLease(JOB_NAME, "node-a", Instant.EPOCH);
+        LeasedJobRunner nodeB = new LeasedJobRunner(jobLeaseRepository, meterRegistry, "node-b");
+
+        // when
+        boolean ranOnB = nodeB.runExclusively(JOB_NAME, Duration.ofMinutes(1), () -> { });
+
+        // then
+        assertTrue(ranOnB);
+        assertEquals("node-b", jobLeaseRepository.findById(JOB_NAME).orElseThrow().getOwner());
+    }
+}